@@ -0,0 +1,77 @@
+package io.github.nadjannn.excel.handling.benchmarks;
+
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelFormat;
+import io.github.nadjannn.excel.handling.HandlingType;
+
+import java.io.File;
+
+/**
+ * Generated workbooks for benchmarks. Files are generated once in temporary directory and are reused by later runs.
+ */
+public class BenchmarkWorkbooks {
+
+    private static final File DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "excelHandling-benchmarks");
+
+    private BenchmarkWorkbooks() {
+    }
+
+    /**
+     * Returns file name of generated workbook, workbook is generated if it does not exist yet.
+     *
+     * @param format      format of the workbook.
+     * @param shape       shape of rows.
+     * @param rowsAmount  amount of rows.
+     * @return String value of file name.
+     */
+    public static synchronized String getFileName(ExcelFormat format, WorkbookShape shape, int rowsAmount) throws Exception {
+        File file = new File(DIRECTORY, shape.name().toLowerCase() + "-" + rowsAmount + getExtension(format));
+        if (!file.exists()) {
+            if (!DIRECTORY.exists() && !DIRECTORY.mkdirs()) {
+                throw new IllegalStateException("Could not create directory " + DIRECTORY);
+            }
+            try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(file.getPath(), HandlingType.WRITE)) {
+                fill(excelFile, shape, rowsAmount);
+            }
+        }
+        return file.getPath();
+    }
+
+    /**
+     * Returns new file name for writing in temporary directory.
+     *
+     * @param format format of the workbook.
+     * @return String value of file name.
+     */
+    public static String getOutputFileName(ExcelFormat format) throws Exception {
+        File file = File.createTempFile("excelHandling-output", getExtension(format));
+        file.deleteOnExit();
+        return file.getPath();
+    }
+
+    /**
+     * Writes rows of particular shape with typed setters.
+     *
+     * @param excelFile  file for writing.
+     * @param shape      shape of rows.
+     * @param rowsAmount amount of rows.
+     */
+    public static void fill(ExcelFile excelFile, WorkbookShape shape, int rowsAmount) {
+        for (int row = 0; row < rowsAmount; row++) {
+            for (int column = 0; column < shape.getColumnsAmount(); column++) {
+                Object value = shape.getValue(row, column);
+                if (value instanceof Double) {
+                    excelFile.setCellValueDouble(row, column, (Double) value);
+                } else {
+                    excelFile.setCellValueString(row, column, (String) value);
+                }
+            }
+        }
+    }
+
+    public static String getExtension(ExcelFormat format) {
+        return format == ExcelFormat.HSSF ? ".xls" : ".xlsx";
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.github.nadjannn.excel.handling.benchmarks;
+
+import io.github.nadjannn.excel.handling.ConverterUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of cell values into text as getCellValueString and exporters do, time is reported per value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private static final int VALUES_AMOUNT = 1024;
+
+    @Param({"true", "false"})
+    private boolean formatted;
+
+    private final Object[] values = new Object[VALUES_AMOUNT];
+
+    private final StringBuilder builder = new StringBuilder();
+
+    @Setup
+    public void createValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES_AMOUNT; i++) {
+            // Integral numbers, fractional numbers and texts as they are met in reports.
+            switch (i % 3) {
+                case 0:
+                    values[i] = (double) random.nextInt(100_000);
+                    break;
+                case 1:
+                    values[i] = random.nextInt(10_000_000) / 100D;
+                    break;
+                default:
+                    values[i] = "text" + i;
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_AMOUNT)
+    public void convertToString(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(ConverterUtil.convertToString(value, formatted));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES_AMOUNT)
+    public int appendString() {
+        builder.setLength(0);
+        for (Object value : values) {
+            ConverterUtil.appendString(builder, value, formatted).append(',');
+        }
+        return builder.length();
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.github.nadjannn.excel.handling.benchmarks;
+
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelFormat;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of generated workbooks and reading of all their cells with typed getters.
+ * Reading benchmarks read the whole sheet per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadBenchmark {
+
+    @Param({"HSSF", "XSSF"})
+    private ExcelFormat format;
+
+    @Param({"NARROW_NUMERIC", "WIDE_NUMERIC", "NARROW_STRING", "WIDE_STRING"})
+    private WorkbookShape shape;
+
+    @Param({"1000", "10000"})
+    private int rowsAmount;
+
+    private String fileName;
+
+    private ExcelFile excelFile;
+
+    @Setup(Level.Trial)
+    public void openFile() throws Exception {
+        fileName = BenchmarkWorkbooks.getFileName(format, shape, rowsAmount);
+        excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeFile() throws ExcelClosingException {
+        excelFile.close();
+    }
+
+    @Benchmark
+    public int openExcelFile() throws ExcelClosingException {
+        try (ExcelFile file = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            return file.getLastRowNum();
+        }
+    }
+
+    @Benchmark
+    public void getCellValue(Blackhole blackhole) {
+        for (int row = 0; row < rowsAmount; row++) {
+            for (int column = 0; column < shape.getColumnsAmount(); column++) {
+                blackhole.consume(excelFile.getCellValue(row, column));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getCellValueString(Blackhole blackhole) {
+        for (int row = 0; row < rowsAmount; row++) {
+            for (int column = 0; column < shape.getColumnsAmount(); column++) {
+                blackhole.consume(excelFile.getCellValueString(row, column));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getCellValueDouble(Blackhole blackhole) {
+        for (int row = 0; row < rowsAmount; row++) {
+            for (int column = 0; column < shape.getColumnsAmount(); column++) {
+                blackhole.consume(excelFile.getCellValueDouble(row, column));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.github.nadjannn.excel.handling.benchmarks;
+
+/**
+ * Shapes of generated workbooks: narrow or wide rows with mostly numerical or mostly text cells.
+ */
+public enum WorkbookShape {
+
+    NARROW_NUMERIC(5, false),
+    WIDE_NUMERIC(50, false),
+    NARROW_STRING(5, true),
+    WIDE_STRING(50, true);
+
+    /**
+     * Amount of distinct texts, so texts are repeated as in real reports and shared strings are reused.
+     */
+    private static final int DISTINCT_TEXTS = 1000;
+
+    private final int columnsAmount;
+
+    private final boolean text;
+
+    WorkbookShape(int columnsAmount, boolean text) {
+        this.columnsAmount = columnsAmount;
+        this.text = text;
+    }
+
+    public int getColumnsAmount() {
+        return columnsAmount;
+    }
+
+    /**
+     * Returns value of particular cell. Text shapes still have the first column numerical as identifiers usually are.
+     *
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @return Double or String value.
+     */
+    public Object getValue(int row, int column) {
+        if (text && column > 0) {
+            return "text " + (row * 31 + column) % DISTINCT_TEXTS;
+        }
+        return column == 0 ? (double) row : row * 0.25D + column;
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.nadjannn.excel.handling.benchmarks;
+
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelFormat;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing of all cells with typed setters and saving of filled workbooks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark {
+
+    @Param({"HSSF", "XSSF"})
+    private ExcelFormat format;
+
+    @Param({"NARROW_NUMERIC", "WIDE_NUMERIC", "NARROW_STRING", "WIDE_STRING"})
+    private WorkbookShape shape;
+
+    @Param({"1000", "10000"})
+    private int rowsAmount;
+
+    private String fileName;
+
+    @Setup(Level.Trial)
+    public void createFileName() throws Exception {
+        fileName = BenchmarkWorkbooks.getOutputFileName(format);
+    }
+
+    @TearDown(Level.Trial)
+    public void removeFile() {
+        new File(fileName).delete();
+    }
+
+    @Benchmark
+    public int setCellValues() throws ExcelClosingException {
+        try (ExcelFile excelFile = ExcelFileFactory.createExcelFile(format)) {
+            BenchmarkWorkbooks.fill(excelFile, shape, rowsAmount);
+            return excelFile.getLastRowNum();
+        }
+    }
+
+    @Benchmark
+    public void save(FilledFile filledFile) throws ExcelClosingException {
+        // File opened for writing is saved on close.
+        filledFile.excelFile.close();
+        filledFile.excelFile = null;
+    }
+
+    /**
+     * Workbook for saving benchmark only. It is filled before every invocation, so only saving is measured.
+     */
+    @State(Scope.Thread)
+    public static class FilledFile {
+
+        private ExcelFile excelFile;
+
+        @Setup(Level.Invocation)
+        public void fill(WriteBenchmark benchmark) {
+            excelFile = ExcelFileFactory.openExcelFile(benchmark.fileName, HandlingType.WRITE);
+            BenchmarkWorkbooks.fill(excelFile, benchmark.shape, benchmark.rowsAmount);
+        }
+
+        /**
+         * Closes workbook which is not saved by failed invocation.
+         */
+        @TearDown(Level.Invocation)
+        public void close() throws ExcelClosingException {
+            if (excelFile != null) {
+                excelFile.close();
+                excelFile = null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+
+import java.util.Objects;
+
+/**
+ * Immutable set of style attributes which identifies cached cell style in {@link CellStyleRegistry}.
+ */
+public final class CellStyleKey {
+
+    /**
+     * Key of style with general format and default attributes.
+     */
+    public static final CellStyleKey GENERAL = new CellStyleKey(null, null, false);
+
+    private final String dataFormat;
+
+    private final HorizontalAlignment alignment;
+
+    private final boolean bold;
+
+    private CellStyleKey(String dataFormat, HorizontalAlignment alignment, boolean bold) {
+        this.dataFormat = dataFormat;
+        this.alignment = alignment;
+        this.bold = bold;
+    }
+
+    /**
+     * Returns key with data format only.
+     *
+     * @param dataFormat String value of data format, for example, "yyyy-mm-dd". Null value means general format.
+     * @return CellStyleKey instance.
+     */
+    public static CellStyleKey of(String dataFormat) {
+        return new CellStyleKey(dataFormat, null, false);
+    }
+
+    /**
+     * Returns key with the same attributes and particular horizontal alignment.
+     *
+     * @param alignment horizontal alignment, null value means default alignment.
+     * @return CellStyleKey instance.
+     */
+    public CellStyleKey withAlignment(HorizontalAlignment alignment) {
+        return new CellStyleKey(dataFormat, alignment, bold);
+    }
+
+    /**
+     * Returns key with the same attributes and bold or regular font.
+     *
+     * @param bold boolean value, bold font is used if it is true.
+     * @return CellStyleKey instance.
+     */
+    public CellStyleKey withBold(boolean bold) {
+        return new CellStyleKey(dataFormat, alignment, bold);
+    }
+
+    public String getDataFormat() {
+        return dataFormat;
+    }
+
+    public HorizontalAlignment getAlignment() {
+        return alignment;
+    }
+
+    public boolean isBold() {
+        return bold;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CellStyleKey)) return false;
+        CellStyleKey that = (CellStyleKey) o;
+        return bold == that.bold && Objects.equals(dataFormat, that.dataFormat) && alignment == that.alignment;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataFormat, alignment, bold);
+    }
+
+}
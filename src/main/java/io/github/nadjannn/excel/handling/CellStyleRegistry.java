@@ -0,0 +1,86 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of cell styles for one workbook. Style is created once for every distinct {@link CellStyleKey}
+ * and reused for all cells, so amount of styles in the file does not depend on amount of cells.
+ */
+public class CellStyleRegistry {
+
+    private final Workbook workbook;
+
+    private final Map<CellStyleKey, CellStyle> styles = new HashMap<>();
+
+    private final Map<String, CellStyle> dataFormatStyles = new HashMap<>();
+
+    private DataFormat dataFormat;
+
+    private Font boldFont;
+
+    public CellStyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    /**
+     * Returns cached style with particular data format only.
+     *
+     * @param format String value of data format, for example, "yyyy-mm-dd".
+     * @return CellStyle instance.
+     */
+    public CellStyle getStyle(String format) {
+        CellStyle style = dataFormatStyles.get(format);
+        if (style == null) {
+            style = getStyle(CellStyleKey.of(format));
+            dataFormatStyles.put(format, style);
+        }
+        return style;
+    }
+
+    /**
+     * Returns cached style for particular key, style is created if it is not cached yet.
+     *
+     * @param key CellStyleKey with style attributes.
+     * @return CellStyle instance.
+     */
+    public CellStyle getStyle(CellStyleKey key) {
+        return styles.computeIfAbsent(key, this::createStyle);
+    }
+
+    /**
+     * Returns amount of styles created by registry.
+     *
+     * @return int value of styles amount.
+     */
+    public int size() {
+        return styles.size();
+    }
+
+    private CellStyle createStyle(CellStyleKey key) {
+        CellStyle style = workbook.createCellStyle();
+        if (key.getDataFormat() != null) {
+            if (dataFormat == null) {
+                dataFormat = workbook.getCreationHelper().createDataFormat();
+            }
+            style.setDataFormat(dataFormat.getFormat(key.getDataFormat()));
+        }
+        if (key.getAlignment() != null) {
+            style.setAlignment(key.getAlignment());
+        }
+        if (key.isBold()) {
+            if (boldFont == null) {
+                boldFont = workbook.createFont();
+                boldFont.setBold(true);
+            }
+            style.setFont(boldFont);
+        }
+        return style;
+    }
+
+}
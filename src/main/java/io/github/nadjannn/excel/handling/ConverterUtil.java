@@ -2,8 +2,12 @@ package io.github.nadjannn.excel.handling;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.text.FieldPosition;
 import java.text.NumberFormat;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -11,6 +15,11 @@ import java.util.stream.Collectors;
  */
 public class ConverterUtil {
 
+    /**
+     * Number formats are not thread-safe, so every thread has its own formats and buffers.
+     */
+    private static final ThreadLocal<FormatState> FORMAT_STATE = ThreadLocal.withInitial(FormatState::new);
+
     /**
      * Converts Object to String. Null value will be converted to empty string. Removes extra zero for numerical value after dot.
      *
@@ -26,6 +35,22 @@ public class ConverterUtil {
         return value.toString();
     }
 
+    /**
+     * Appends the same String representation as {@link #convertToString(Object, boolean)} returns to the builder.
+     * Numerical values are appended without intermediate String objects.
+     *
+     * @param builder StringBuilder for appending.
+     * @param value Object value.
+     * @param format boolean value. Apply local settings for number representation if it is true or use default dot otherwise.
+     * @return the same StringBuilder.
+     */
+    public static StringBuilder appendString(StringBuilder builder, Object value, boolean format) {
+        if (value instanceof Double) {
+            return appendDouble(builder, (Double) value, format);
+        }
+        return value == null ? builder : builder.append(value);
+    }
+
     /**
      * Converts double numerical value to String. Removes extra zero after dot (or other sign if format is true and there is other character for digits separation).
      *
@@ -34,15 +59,39 @@ public class ConverterUtil {
      * @return String representation.
      */
     private static String convertDoubleToString(Double value, boolean format) {
-        if (value == null) return "";
-        if (value.longValue() == value.doubleValue()) {
-            return ((Long) value.longValue()).toString();
+        double number = value;
+        long longNumber = (long) number;
+        if (longNumber == number) {
+            return Long.toString(longNumber);
+        }
+        // Not integral value never ends with ".0" in Double.toString representation, so it is returned as is.
+        // Text is the same as before, it is not the shortest representation for some values before Java 19.
+        return format ? formatDouble(number).toString() : Double.toString(number);
+    }
+
+    private static StringBuilder appendDouble(StringBuilder builder, double number, boolean format) {
+        long longNumber = (long) number;
+        if (longNumber == number) {
+            return builder.append(longNumber);
         }
-        String stringValue = format ? NumberFormat.getInstance().format(value) : value.toString();
-        if (stringValue.endsWith(".0") || stringValue.endsWith(",0")) {
-            stringValue = stringValue.substring(0, stringValue.length() - 2);
+        return format ? builder.append(formatDouble(number)) : builder.append(number);
+    }
+
+    /**
+     * Formats value with number format of default locale and removes extra zero after the separator.
+     * Returned buffer is reused by the next call in the same thread.
+     */
+    private static StringBuffer formatDouble(double number) {
+        FormatState state = FORMAT_STATE.get();
+        NumberFormat numberFormat = state.numberFormats.computeIfAbsent(Locale.getDefault(Locale.Category.FORMAT), NumberFormat::getInstance);
+        StringBuffer buffer = state.buffer;
+        buffer.setLength(0);
+        numberFormat.format(number, buffer, state.fieldPosition);
+        int length = buffer.length();
+        if (length >= 2 && buffer.charAt(length - 1) == '0' && (buffer.charAt(length - 2) == '.' || buffer.charAt(length - 2) == ',')) {
+            buffer.setLength(length - 2);
         }
-        return stringValue;
+        return buffer;
     }
 
     /**
@@ -60,4 +109,17 @@ public class ConverterUtil {
         return filteredList.toArray(array);
     }
 
+    /**
+     * Number formats by default locale and reusable buffers of one thread.
+     */
+    private static class FormatState {
+
+        private final Map<Locale, NumberFormat> numberFormats = new HashMap<>();
+
+        private final StringBuffer buffer = new StringBuffer(32);
+
+        private final FieldPosition fieldPosition = new FieldPosition(NumberFormat.INTEGER_FIELD);
+
+    }
+
 }
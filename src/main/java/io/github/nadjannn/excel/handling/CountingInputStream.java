@@ -0,0 +1,57 @@
+package io.github.nadjannn.excel.handling;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream which counts read bytes. It is not closed, because the stream is owned by the caller.
+ */
+class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int amount = super.read(b, off, len);
+        if (amount > 0) {
+            count += amount;
+        }
+        return amount;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long amount = super.skip(n);
+        count += amount;
+        return amount;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // Stream is owned by the caller.
+    }
+
+}
@@ -0,0 +1,168 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.apache.poi.ss.usermodel.DataValidationConstraint;
+import org.apache.poi.ss.usermodel.DataValidationHelper;
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.SheetVisibility;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellRangeAddressList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Drop down lists of one workbook which are collected until the workbook is written. Ranges with identical options
+ * on the same sheet are merged and written as one validation. Options which do not fit into explicit list
+ * are written into hidden sheet and are referenced by a named range.
+ */
+class DropDownListRegistry {
+
+    /**
+     * Excel limit for explicit list: options joined with commas.
+     */
+    static final int MAX_EXPLICIT_LIST_LENGTH = 255;
+
+    static final String LISTS_SHEET_NAME = "_dropDownLists";
+
+    private static final String LIST_NAME_PREFIX = "_dropDownList";
+
+    private static final Comparator<CellRangeAddress> BY_COLUMNS_THEN_ROWS = Comparator
+            .comparingInt(CellRangeAddress::getFirstColumn)
+            .thenComparingInt(CellRangeAddress::getLastColumn)
+            .thenComparingInt(CellRangeAddress::getFirstRow);
+
+    private static final Comparator<CellRangeAddress> BY_ROWS_THEN_COLUMNS = Comparator
+            .comparingInt(CellRangeAddress::getFirstRow)
+            .thenComparingInt(CellRangeAddress::getLastRow)
+            .thenComparingInt(CellRangeAddress::getFirstColumn);
+
+    private final Workbook workbook;
+
+    private final Map<Sheet, Map<List<String>, List<CellRangeAddress>>> pendingLists = new LinkedHashMap<>();
+
+    /**
+     * Names of ranges with options written into hidden sheet, they are reused by all sheets.
+     */
+    private final Map<List<String>, String> listNames = new HashMap<>();
+
+    private Sheet listsSheet;
+
+    private int nextListRow;
+
+    DropDownListRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    void add(Sheet sheet, CellRangeAddress range, List<String> options) {
+        List<String> key = Arrays.asList(ConverterUtil.convertToArrayWithoutNulls(options));
+        pendingLists.computeIfAbsent(sheet, s -> new LinkedHashMap<>())
+                .computeIfAbsent(key, k -> new ArrayList<>())
+                .add(range);
+    }
+
+    /**
+     * Adds one validation for every distinct options list of every sheet and clears collected lists.
+     *
+     * @return amount of added validations.
+     */
+    int apply(Function<Sheet, DataValidationHelper> helpers) {
+        int validationsAmount = 0;
+        for (Map.Entry<Sheet, Map<List<String>, List<CellRangeAddress>>> sheetLists : pendingLists.entrySet()) {
+            Sheet sheet = sheetLists.getKey();
+            DataValidationHelper dvHelper = helpers.apply(sheet);
+            for (Map.Entry<List<String>, List<CellRangeAddress>> list : sheetLists.getValue().entrySet()) {
+                CellRangeAddressList addressList = new CellRangeAddressList();
+                for (CellRangeAddress range : merge(list.getValue())) {
+                    addressList.addCellRangeAddress(range);
+                }
+                DataValidation validation = dvHelper.createValidation(createConstraint(dvHelper, list.getKey()), addressList);
+                validation.setShowErrorBox(true);
+                sheet.addValidationData(validation);
+                validationsAmount++;
+            }
+        }
+        pendingLists.clear();
+        return validationsAmount;
+    }
+
+    private DataValidationConstraint createConstraint(DataValidationHelper dvHelper, List<String> options) {
+        int length = Math.max(options.size() - 1, 0);
+        for (String option : options) {
+            length += option.length();
+        }
+        if (length <= MAX_EXPLICIT_LIST_LENGTH) {
+            return dvHelper.createExplicitListConstraint(options.toArray(new String[0]));
+        }
+        return dvHelper.createFormulaListConstraint(listNames.computeIfAbsent(options, this::writeToListsSheet));
+    }
+
+    /**
+     * Writes options into the first column of hidden sheet after previous lists and returns name of the range.
+     * Rows are written one after another, so streaming workbook can write them as well.
+     */
+    private String writeToListsSheet(List<String> options) {
+        if (listsSheet == null) {
+            listsSheet = workbook.getSheet(LISTS_SHEET_NAME);
+            if (listsSheet == null) {
+                listsSheet = workbook.createSheet(LISTS_SHEET_NAME);
+                workbook.setSheetVisibility(workbook.getSheetIndex(listsSheet), SheetVisibility.HIDDEN);
+            } else {
+                // Lists written before are kept, new lists are written after them.
+                nextListRow = listsSheet.getLastRowNum() + 1;
+            }
+        }
+        int firstRow = nextListRow;
+        for (String option : options) {
+            listsSheet.createRow(nextListRow++).createCell(0).setCellValue(option);
+        }
+        Name name = workbook.createName();
+        name.setNameName(LIST_NAME_PREFIX + firstRow);
+        name.setRefersToFormula("'" + LISTS_SHEET_NAME + "'!$A$" + (firstRow + 1) + ":$A$" + Math.max(nextListRow, firstRow + 1));
+        return name.getNameName();
+    }
+
+    /**
+     * Merges ranges which continue each other vertically and horizontally until nothing can be merged,
+     * overlapping ranges with the same columns or rows are merged as well.
+     */
+    static List<CellRangeAddress> merge(List<CellRangeAddress> ranges) {
+        List<CellRangeAddress> merged = ranges;
+        int size;
+        do {
+            size = merged.size();
+            merged = mergeSorted(mergeSorted(merged, BY_COLUMNS_THEN_ROWS, true), BY_ROWS_THEN_COLUMNS, false);
+        } while (merged.size() < size);
+        return merged;
+    }
+
+    private static List<CellRangeAddress> mergeSorted(List<CellRangeAddress> ranges, Comparator<CellRangeAddress> order, boolean vertical) {
+        List<CellRangeAddress> sorted = new ArrayList<>(ranges);
+        sorted.sort(order);
+        List<CellRangeAddress> merged = new ArrayList<>(sorted.size());
+        CellRangeAddress current = null;
+        for (CellRangeAddress range : sorted) {
+            if (current != null && vertical && current.getFirstColumn() == range.getFirstColumn()
+                    && current.getLastColumn() == range.getLastColumn() && range.getFirstRow() <= current.getLastRow() + 1) {
+                current.setLastRow(Math.max(current.getLastRow(), range.getLastRow()));
+            } else if (current != null && !vertical && current.getFirstRow() == range.getFirstRow()
+                    && current.getLastRow() == range.getLastRow() && range.getFirstColumn() <= current.getLastColumn() + 1) {
+                current.setLastColumn(Math.max(current.getLastColumn(), range.getLastColumn()));
+            } else {
+                current = range.copy();
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.github.nadjannn.excel.handling;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversion of Excel serial date numbers into java.time values with pure arithmetic, without Calendar objects.
+ * Results are the same as {@link org.apache.poi.ss.usermodel.DateUtil#getJavaDate(double, boolean)} gives in UTC,
+ * including the fictitious 29 February 1900 of 1900 date system which is converted into 1 March 1900.
+ */
+public class ExcelDateConverter {
+
+    public static final long DAY_MILLISECONDS = 86_400_000L;
+
+    /**
+     * Epoch day of 1 January 1900, serial number 1 in 1900 date system.
+     */
+    private static final long EPOCH_DAY_1900 = LocalDate.of(1900, 1, 1).toEpochDay();
+
+    /**
+     * Epoch day of 1 January 1904, serial number 0 in 1904 date system.
+     */
+    private static final long EPOCH_DAY_1904 = LocalDate.of(1904, 1, 1).toEpochDay();
+
+    /**
+     * The first serial number after fictitious 29 February 1900.
+     */
+    private static final int FIRST_DAY_AFTER_LEAP_BUG = 61;
+
+    private ExcelDateConverter() {
+    }
+
+    /**
+     * Returns true if the number can be converted into date, i.e. it is not negative.
+     *
+     * @param serial Excel serial date number.
+     * @return boolean value.
+     */
+    public static boolean isValid(double serial) {
+        return serial >= 0D;
+    }
+
+    /**
+     * Converts Excel serial date number into milliseconds from 1970-01-01T00:00 of local date-time, time is rounded to milliseconds.
+     *
+     * @param serial   not negative Excel serial date number.
+     * @param date1904 true for 1904 date system of the workbook.
+     * @return long value of milliseconds.
+     */
+    public static long toEpochMilli(double serial, boolean date1904) {
+        long wholeDays = (long) serial;
+        long millisInDay = (long) ((serial - wholeDays) * DAY_MILLISECONDS + 0.5D);
+        return toEpochDay(wholeDays, date1904) * DAY_MILLISECONDS + millisInDay;
+    }
+
+    /**
+     * Converts Excel serial date number into days from 1970-01-01, time part is ignored.
+     *
+     * @param serial   not negative Excel serial date number.
+     * @param date1904 true for 1904 date system of the workbook.
+     * @return long value of days.
+     */
+    public static long toEpochDay(double serial, boolean date1904) {
+        return Math.floorDiv(toEpochMilli(serial, date1904), DAY_MILLISECONDS);
+    }
+
+    /**
+     * Converts Excel serial date number into LocalDate, time part is ignored.
+     *
+     * @param serial   not negative Excel serial date number.
+     * @param date1904 true for 1904 date system of the workbook.
+     * @return LocalDate value.
+     */
+    public static LocalDate toLocalDate(double serial, boolean date1904) {
+        return LocalDate.ofEpochDay(toEpochDay(serial, date1904));
+    }
+
+    /**
+     * Converts Excel serial date number into LocalDateTime, time is rounded to milliseconds.
+     *
+     * @param serial   not negative Excel serial date number.
+     * @param date1904 true for 1904 date system of the workbook.
+     * @return LocalDateTime value.
+     */
+    public static LocalDateTime toLocalDateTime(double serial, boolean date1904) {
+        long epochMilli = toEpochMilli(serial, date1904);
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        int nanos = (int) Math.floorMod(epochMilli, 1000L) * 1_000_000;
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+    }
+
+    private static long toEpochDay(long wholeDays, boolean date1904) {
+        if (date1904) {
+            return EPOCH_DAY_1904 + wholeDays;
+        }
+        // Excel counts 29 February 1900 which does not exist, so later days are shifted by one.
+        return EPOCH_DAY_1900 + wholeDays - (wholeDays < FIRST_DAY_AFTER_LEAP_BUG ? 1 : 2);
+    }
+
+}
@@ -1,183 +1,170 @@
 package io.github.nadjannn.excel.handling;
 
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
- * Excel file with all provided functionality to handle it.
+ * Excel file with all provided functionality to handle it. Reading functionality for current loaded sheet is defined in {@link ExcelSheetReader}.
  */
-public interface ExcelFile extends AutoCloseable {
+public interface ExcelFile extends ExcelSheetReader, AutoCloseable {
 
     /**
-     * Returns number of physical rows from current loaded sheet, i.e. empty rows are excluded
+     * Returns sheets amount from processing file.
      *
-     * @return Integer value of rows.
+     * @return Integers value of sheets amount.
      */
-    int getNumberOfRows();
+    int getSheetsAmount();
 
     /**
-     * Returns the latest row index from current loaded sheet. Counting starts from zero.
+     * Loads sheet with particular index. Sheets counting starts from 0. Loaded sheet is ready for the data processing.
      *
-     * @return int value of last row index on current sheet.
+     * @param sheetIndex Integer number for sheet loading.
      */
-    int getLastRowNum();
+    void loadSheet(int sheetIndex);
 
     /**
-     * Returns columns amount in particular row.
-     *
-     * @param row Integer value of row counted from zero.
-     * @return short value with columns amount in particular row.
+     * Adds one more sheet and loads it. Loaded sheet is ready for the data processing.
      */
-    short getLastColumnNumber(int row);
+    void addAndLoadSheet();
 
     /**
-     * Returns sheets amount from processing file.
+     * Sets text value into particular cell if it is not null or empty.
      *
-     * @return Integers value of sheets amount.
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @param value  String value.
      */
-    int getSheetsAmount();
+    void setCellValueString(int row, int column, String value);
 
     /**
-     * Returns current loaded sheet's name.
+     * Sets numerical value into particular cell if it is not null.
      *
-     * @return String value of current loaded sheet's name.
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @param value  Double numerical value.
      */
-    String getSheetName();
+    void setCellValueDouble(int row, int column, Double value);
 
     /**
-     * Loads sheet with particular index. Sheets counting starts from 0. Loaded sheet is ready for the data processing.
+     * Sets boolean value into particular cell if it is not null.
      *
-     * @param sheetIndex Integer number for sheet loading.
-     */
-    void loadSheet(int sheetIndex);
-
-    /**
-     * Adds one more sheet and loads it. Loaded sheet is ready for the data processing.
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @param value  Boolean value.
      */
-    void addAndLoadSheet();
+    void setCellValueBoolean(int row, int column, Boolean value);
 
     /**
-     * Returns Optional value with Row instance if such row is present on current sheet.
+     * Sets Date into cell.
      *
-     * @param row Integer value of row number counted from zero.
-     * @return Optional value with Row instance if such row is present on current sheet.
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @param value  Date value
+     * @param format Optional value for format. Default format is yyyy-mm-dd. Possible date-time formats "m/d/yy", "d-mmm-yy", "d-mmm", "mmm-yy", "h:mm AM/PM", "h:mm:ss AM/PM", "h:mm", "h:mm:ss", "m/d/yy h:mm".
      */
-    Optional<Row> getExcelRow(int row);
+    void setCellValueDate(int row, int column, Date value, String... format);
 
     /**
-     * Reads value from particular cell on current loaded sheet.
+     * Sets LocalDate into cell.
      *
-     * @param row Integer row value counted from zero.
-     * @param column Integer column value counted from zero.
-     * @param <T> Cell value type, it can be String for text value, Double for numerical, Boolean for boolean value or Byte with error code.
-     * @return Optional with some value from particular cell, which is String for text, Double for numerical types or formulas, Byte for error codes or Boolean.
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @param value  LocalDate value
+     * @param format Optional value for format. Default format is yyyy-mm-dd.
      */
-    <T> Optional<T> getCellValue(int row, int column);
+    void setCellValueDate(int row, int column, LocalDate value, String... format);
 
     /**
-     * Reads value from cell, returns empty string is cell value is undefined. Cell value is converted to String.
+     * Sets LocalDateTime into cell.
      *
-     * @param row    Integer row value counted from zero.
-     * @param column Integer column value counted from zero.
-     * @return String value from the cell.
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @param value  LocalDateTime value
+     * @param format Optional value for format. Default format is yyyy-mm-dd hh:mm:ss.
      */
-    default String getCellValueString(int row, int column) {
-        return getCellValueString(row, column, false);
-    }
+    void setCellValueDate(int row, int column, LocalDateTime value, String... format);
 
     /**
-     * Reads value from cell, returns empty string is cell value is undefined. Cell value is converted to String.
-     * Removes extra zeros after dot for numerical values.
-     * Applies local computer settings for numerical values representation if parameter format is true.
+     * Writes values into cells of particular row starting from the first column. Row is looked up or created once.
+     * Value type defines cell type: String is written as text, Number as numerical value, Boolean as boolean value,
+     * Date as date with default format, other objects are written as text. Null values are skipped.
      *
-     * @param row    Integer row value counted from zero.
-     * @param column Integer column value counted from zero.
-     * @param format boolean value. It is affected on numerical values only, decimal point view will be taken from local computer settings if this parameter is true. Decimal point is always just a dot for numerical values if this parameter is false.
-     * @return String value from the cell.
+     * @param row    Integer value of row number counted from zero.
+     * @param values values for the cells of the row.
      */
-    default String getCellValueString(int row, int column, boolean format) {
-        return getCellValue(row, column).map(v -> ConverterUtil.convertToString(v, format)).orElse("");
-    }
+    void writeRow(int row, Object... values);
 
     /**
-     * Returns Optional Double value if cell had a number. Optional is an empty if cell is not numerical.
+     * Writes rows after the last row of current loaded sheet, every array is written as in {@link #writeRow(int, Object...)}.
      *
-     * @param row    Integer row value counted from zero.
-     * @param column Integer column value counted from zero.
-     * @return Optional Double value.
+     * @param rows Iterable with values of rows.
+     * @return int value of written rows amount.
      */
-    default Optional<Double> getCellValueDouble(int row, int column) {
-        return getCellValue(row, column)
-                .map(v -> (v instanceof Double) ? (Double) v : null);
-    }
+    int appendRows(Iterable<Object[]> rows);
 
     /**
-     * Returns Optional Boolean value if cell had a boolean. Optional is an empty if cell is not boolean.
+     * Writes rows after the last row of current loaded sheet, every list is written as in {@link #writeRow(int, Object...)}.
      *
-     * @param row    Integer row value counted from zero.
-     * @param column Integer column value counted from zero.
-     * @return Optional Boolean value.
+     * @param rows Stream with values of rows.
+     * @return int value of written rows amount.
      */
-    default Optional<Boolean> getCellValueBoolean(int row, int column) {
-        return getCellValue(row, column)
-                .map(v -> (v instanceof Boolean) ? (Boolean) v : null);
-    }
+    int appendRows(Stream<? extends List<?>> rows);
 
     /**
-     * Returns Optional Date value if cell had a number or date, number is converted into Date.
-     * Optional is an empty if cell is not numerical or date type.
+     * Writes objects after the last row of current loaded sheet: header row first and then one row per object.
+     * Columns, header texts, data formats and drop down lists are defined with
+     * {@link io.github.nadjannn.excel.handling.mapping.ExcelColumn} annotation on fields of the class.
      *
-     * @param row    row Integer row value counted from zero.
-     * @param column Integer column value counted from zero.
-     * @return Optional Date value.
+     * @param type  class of written objects.
+     * @param beans objects to be written.
+     * @param <T>   type of written objects.
+     * @return int value of written objects amount.
      */
-    default Optional<Date> getCellValueDate(int row, int column) {
-        return getCellValue(row, column)
-                .map(v -> (v instanceof Double) ? DateUtil.getJavaDate((Double) v) : null);
-    }
+    <T> int writeBeans(Class<T> type, Iterable<T> beans);
 
     /**
-     * Sets text value into particular cell if it is not null or empty.
+     * Sets formula into cell, for example "A1+B1".
      *
-     * @param row    Integer value of row number counted from zero.
-     * @param column Integer value of column number counted from zero.
-     * @param value  String value.
+     * @param row     Integer value of row number counted from zero.
+     * @param column  Integer value of column number counted from zero.
+     * @param formula String value of formula without leading "=".
      */
-    void setCellValueString(int row, int column, String value);
+    void setCellFormula(int row, int column, String formula);
 
     /**
-     * Sets numerical value into particular cell if it is not null.
+     * Switches formula evaluation mode. When it is enabled formulas are evaluated on reading with one workbook-wide evaluator
+     * and evaluated value of any type is returned: Double, String, Boolean or Byte for error codes.
+     * Otherwise only cached numerical result is returned and zero is returned for other results.
+     * Evaluated results are cached, values set by this file invalidate only dependent formulas.
+     * Evaluation can not be enabled for file shared by {@link SharedExcelWorkbook}.
      *
-     * @param row    Integer value of row number counted from zero.
-     * @param column Integer value of column number counted from zero.
-     * @param value  Double numerical value.
+     * @param enabled true to evaluate formulas on reading.
      */
-    void setCellValueDouble(int row, int column, Double value);
+    void setFormulaEvaluation(boolean enabled);
 
     /**
-     * Sets boolean value into particular cell if it is not null.
+     * Returns true if formula evaluation mode is enabled.
      *
-     * @param row    Integer value of row number counted from zero.
-     * @param column Integer value of column number counted from zero.
-     * @param value  Boolean value.
+     * @return boolean value of formula evaluation mode.
      */
-    void setCellValueBoolean(int row, int column, Boolean value);
+    boolean isFormulaEvaluation();
 
     /**
-     * Sets Date into cell.
-     *
-     * @param row    Integer value of row number counted from zero.
-     * @param column Integer value of column number counted from zero.
-     * @param value  Date value
-     * @param format Optional value for format. Default format is yyyy-mm-dd. Possible date-time formats "m/d/yy", "d-mmm-yy", "d-mmm", "mmm-yy", "h:mm AM/PM", "h:mm:ss AM/PM", "h:mm", "h:mm:ss", "m/d/yy h:mm".
+     * Evaluates all formulas in the workbook and stores results as cached values, so they are saved with the file.
      */
-    void setCellValueDate(int row, int column, Date value, String... format);
+    void evaluateAll();
 
     /**
      * Sets drop down list with defined options.
@@ -189,17 +176,64 @@ public interface ExcelFile extends AutoCloseable {
     void setCellDropDownList(int row, int column, List<String> options);
 
     /**
-     * Closes workbook to release it.
+     * Sets drop down list with defined options for all cells of the range on current sheet.
+     * Drop down lists are added when workbook is written: ranges with identical options are merged into one validation
+     * and options longer than explicit list limit of 255 characters are written into hidden sheet and referenced by a named range.
+     *
+     * @param range   CellRangeAddress with rows and columns counted from zero.
+     * @param options List of String values with options for drop down list.
+     */
+    void setDropDownList(CellRangeAddress range, List<String> options);
+
+    /**
+     * Writes workbook content to the stream. Stream is not closed.
+     * File opened for reading from disk can not be written, files opened for writing and in-memory files can.
+     *
+     * @param outputStream stream for workbook content.
+     * @throws ExcelHandlingException throws ExcelHandlingException if file is opened for reading from disk.
+     */
+    void writeTo(OutputStream outputStream);
+
+    /**
+     * Writes workbook content to the channel. Channel is not closed.
+     * File opened for reading from disk can not be written, files opened for writing and in-memory files can.
+     *
+     * @param channel channel for workbook content.
+     * @throws ExcelHandlingException throws ExcelHandlingException if file is opened for reading from disk.
+     */
+    void writeTo(WritableByteChannel channel);
+
+    /**
+     * Saves workbook opened for writing to the file on provided executor. Workbook is written into temporary file
+     * in the same directory which replaces the file when it is complete. Workbook must not be changed until the future is completed.
+     * Next saving and closing start after this saving is completed.
+     *
+     * @param executor Executor for saving.
+     * @return future completed with absolute path of saved file.
+     */
+    CompletableFuture<Path> saveAsync(Executor executor);
+
+    /**
+     * Closes workbook to release it. Workbook opened for writing is saved to the file, in-memory workbook is not saved.
+     * File is saved into temporary file in the same directory which replaces the file when it is complete.
      *
      * @throws ExcelClosingException throws ExcelClosingException in case of error.
      */
     @Override
     void close() throws ExcelClosingException;
 
+    /**
+     * Saves and closes workbook on provided executor, see {@link #close()}. Workbook must not be used after this call.
+     *
+     * @param executor Executor for saving and closing.
+     * @return future completed with absolute path of saved file or with null if workbook is not saved.
+     */
+    CompletableFuture<Path> closeAsync(Executor executor);
+
     /**
      * Returns file name of current processing file
      *
-     * @return String value of processing file
+     * @return String value of processing file, null for in-memory workbook
      */
     String getFileName();
 
@@ -217,6 +251,13 @@ public interface ExcelFile extends AutoCloseable {
      */
     Workbook getWorkbook();
 
+    /**
+     * Returns cache of cell styles for current workbook. Styles from registry are shared between cells.
+     *
+     * @return CellStyleRegistry object
+     */
+    CellStyleRegistry getStyleRegistry();
+
     /**
      * Returns current processing sheet
      *
@@ -1,13 +1,38 @@
 package io.github.nadjannn.excel.handling;
 
+import io.github.nadjannn.excel.handling.mapping.ExcelBeanWriter;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
 
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Excel file handling regardless to its type: 97-2004 or latest one.
@@ -18,6 +43,8 @@ public abstract class ExcelFileAbstract {
 
     public static final String DEFAULT_DATE_FORMAT = "yyyy-mm-dd";
 
+    public static final String DEFAULT_DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
+
     /**
      * Processing file name.
      */
@@ -33,6 +60,21 @@ public abstract class ExcelFileAbstract {
      */
     protected final Workbook workbook;
 
+    /**
+     * Cached cell styles of loaded workbook.
+     */
+    protected final CellStyleRegistry styleRegistry;
+
+    /**
+     * Drop down lists which are added to sheets as validations when workbook is written.
+     */
+    private final DropDownListRegistry dropDownLists;
+
+    /**
+     * True if workbook uses 1904 date system, it is read once when workbook is loaded.
+     */
+    protected final boolean date1904;
+
     /**
      * Current sheet instance from excel file. Sheet can be reloaded during file processing.
      */
@@ -43,12 +85,45 @@ public abstract class ExcelFileAbstract {
      */
     protected int sheetIndex;
 
+    /**
+     * Workbook-wide formula evaluator, it is created on first use and keeps evaluation cache for the whole session.
+     */
+    private FormulaEvaluator formulaEvaluator;
+
+    private boolean formulaEvaluation;
+
+    /**
+     * True when file is read by cursors of shared workbook, formulas are not evaluated then.
+     */
+    private volatile boolean shared;
+
+    /**
+     * Listener taken from the factory when file is opened.
+     */
+    protected final ExcelFileListener listener;
+
+    /**
+     * Session counters, they are null for no-op listener, so nothing is counted.
+     */
+    private final ExcelFileStatistics statistics;
+
+    /**
+     * The latest asynchronous saving, next saving and closing wait for it.
+     */
+    private CompletableFuture<Path> pendingSave = CompletableFuture.completedFuture(null);
+
     public ExcelFileAbstract(String fileName, HandlingType handlingType) {
         this.fileName = fileName;
         this.handlingType = handlingType;
+        listener = ExcelFileFactory.getListener();
+        statistics = listener == ExcelFileListener.NO_OP ? null : new ExcelFileStatistics();
         if (handlingType == HandlingType.READ) {
+            long start = System.nanoTime();
             workbook = loadWorkbook();
             sheet = workbook.getSheetAt(0);
+            if (statistics != null) {
+                listener.onLoad(fileName, new File(fileName).length(), System.nanoTime() - start);
+            }
         } else {
             try {
                 workbook = createWorkbook();
@@ -57,17 +132,94 @@ public abstract class ExcelFileAbstract {
                 throw new ExcelHandlingException("Could not create new file " + fileName, e);
             }
         }
+        styleRegistry = new CellStyleRegistry(workbook);
+        dropDownLists = new DropDownListRegistry(workbook);
+        date1904 = isDate1904(workbook);
+    }
+
+    /**
+     * Creates in-memory file without file name. Provided workbook is read or new sheet is created in it for writing.
+     */
+    protected ExcelFileAbstract(Workbook workbook, HandlingType handlingType) {
+        this.fileName = null;
+        this.handlingType = handlingType;
+        this.workbook = workbook;
+        listener = ExcelFileFactory.getListener();
+        statistics = listener == ExcelFileListener.NO_OP ? null : new ExcelFileStatistics();
+        sheet = handlingType == HandlingType.READ ? workbook.getSheetAt(0) : workbook.createSheet(DEFAULT_SHEET_NAME);
+        styleRegistry = new CellStyleRegistry(workbook);
+        dropDownLists = new DropDownListRegistry(workbook);
+        date1904 = isDate1904(workbook);
+    }
+
+    /**
+     * Creates in-memory file for reading from the stream with {@link #readWorkbook(InputStream)}.
+     * Stream is read fully and is not closed.
+     */
+    protected ExcelFileAbstract(InputStream inputStream) {
+        this.fileName = null;
+        this.handlingType = HandlingType.READ;
+        listener = ExcelFileFactory.getListener();
+        statistics = listener == ExcelFileListener.NO_OP ? null : new ExcelFileStatistics();
+        long start = System.nanoTime();
+        CountingInputStream countingStream = new CountingInputStream(inputStream);
+        workbook = readWorkbook(countingStream);
+        sheet = workbook.getSheetAt(0);
+        styleRegistry = new CellStyleRegistry(workbook);
+        dropDownLists = new DropDownListRegistry(workbook);
+        date1904 = isDate1904(workbook);
+        if (statistics != null) {
+            listener.onLoad(null, countingStream.getCount(), System.nanoTime() - start);
+        }
     }
 
     public void close() throws ExcelClosingException {
+        // Failure of asynchronous saving is reported by its future, the file is saved again below.
+        getPendingSave().handle((path, e) -> null).join();
         try {
-            if (handlingType == HandlingType.WRITE) {
+            if (handlingType == HandlingType.WRITE && fileName != null) {
                 save();
             }
-            workbook.close();
+            if (statistics != null) {
+                statistics.setStylesAmount(workbook.getNumCellStyles());
+            }
+            closeWorkbook();
         } catch (Exception e) {
             throw new ExcelClosingException("Cannot close workbook for file " + fileName, e);
         }
+        if (statistics != null) {
+            listener.onClose(fileName, statistics);
+        }
+    }
+
+    public CompletableFuture<Path> saveAsync(Executor executor) {
+        if (handlingType != HandlingType.WRITE || fileName == null) {
+            throw new ExcelHandlingException("Only file opened for writing can be saved " + fileName);
+        }
+        Path path = Paths.get(fileName).toAbsolutePath();
+        synchronized (this) {
+            pendingSave = pendingSave.handle((previous, e) -> path).thenApplyAsync(ignored -> {
+                save();
+                return path;
+            }, executor);
+            return pendingSave;
+        }
+    }
+
+    public CompletableFuture<Path> closeAsync(Executor executor) {
+        Path path = handlingType == HandlingType.WRITE && fileName != null ? Paths.get(fileName).toAbsolutePath() : null;
+        return getPendingSave().handle((previous, e) -> path).thenApplyAsync(ignored -> {
+            try {
+                close();
+            } catch (ExcelClosingException e) {
+                throw new CompletionException(e);
+            }
+            return path;
+        }, executor);
+    }
+
+    private synchronized CompletableFuture<Path> getPendingSave() {
+        return pendingSave;
     }
 
     public int getNumberOfRows() {
@@ -93,6 +245,38 @@ public abstract class ExcelFileAbstract {
         return getCell(row, column, false).map(cell -> (T) getCellValue(cell));
     }
 
+    public RowValues readRow(int row) {
+        return readRow(sheet, row, new RowValues());
+    }
+
+    public RowValues readRow(int row, RowValues rowValues) {
+        return readRow(sheet, row, rowValues);
+    }
+
+    public Stream<RowValues> rows() {
+        return rows(0, getLastRowNum() + 1);
+    }
+
+    public Stream<RowValues> rows(int from, int to) {
+        return rows(sheet, from, to);
+    }
+
+    public SheetSnapshot snapshot() {
+        return snapshot(sheet);
+    }
+
+    public SheetSnapshot snapshot(int from, int to) {
+        return snapshot(sheet, from, to);
+    }
+
+    public RowCursor rowCursor() {
+        return new RowCursor(sheet, date1904);
+    }
+
+    public boolean isDate1904() {
+        return date1904;
+    }
+
     public Optional<Row> getExcelRow(int row) {
         return getExcelRow(row, false);
     }
@@ -128,21 +312,150 @@ public abstract class ExcelFileAbstract {
 
     public void setCellValueDate(int row, int column, Date value, String... format) {
         setDataToCell(row, column, value, (cell) -> {
-            CellStyle style = workbook.createCellStyle();
             String formatValue = format == null || format.length == 0 ? DEFAULT_DATE_FORMAT : format[0];
-            style.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat(formatValue));
-            cell.setCellStyle(style);
+            cell.setCellStyle(styleRegistry.getStyle(formatValue));
             cell.setCellValue(value);
         });
     }
 
+    public void setCellValueDate(int row, int column, LocalDate value, String... format) {
+        setDataToCell(row, column, value, (cell) -> {
+            String formatValue = format == null || format.length == 0 ? DEFAULT_DATE_FORMAT : format[0];
+            cell.setCellStyle(styleRegistry.getStyle(formatValue));
+            cell.setCellValue(value);
+        });
+    }
+
+    public void setCellValueDate(int row, int column, LocalDateTime value, String... format) {
+        setDataToCell(row, column, value, (cell) -> {
+            String formatValue = format == null || format.length == 0 ? DEFAULT_DATE_TIME_FORMAT : format[0];
+            cell.setCellStyle(styleRegistry.getStyle(formatValue));
+            cell.setCellValue(value);
+        });
+    }
+
+    public void writeRow(int row, Object... values) {
+        writeRow(row, values, null);
+    }
+
+    public int appendRows(Iterable<Object[]> rows) {
+        int row = getLastRowNum() + 1;
+        int amount = 0;
+        for (Object[] values : rows) {
+            writeRow(row + amount, values);
+            amount++;
+        }
+        return amount;
+    }
+
+    public int appendRows(Stream<? extends List<?>> rows) {
+        int row = getLastRowNum() + 1;
+        int amount = 0;
+        Iterator<? extends List<?>> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writeRow(row + amount, iterator.next().toArray());
+            amount++;
+        }
+        return amount;
+    }
+
+    public <T> int writeBeans(Class<T> type, Iterable<T> beans) {
+        ExcelBeanWriter<T> beanWriter = ExcelBeanWriter.forClass(type);
+        int columnsAmount = beanWriter.getColumnsAmount();
+        CellStyle[] styles = new CellStyle[columnsAmount];
+        for (int column = 0; column < columnsAmount; column++) {
+            String format = beanWriter.getFormat(column, DEFAULT_DATE_FORMAT);
+            styles[column] = format == null ? null : styleRegistry.getStyle(format);
+        }
+        CellStyle[] headerStyles = new CellStyle[columnsAmount];
+        Arrays.fill(headerStyles, styleRegistry.getStyle(CellStyleKey.GENERAL.withBold(true)));
+        int headerRow = getLastRowNum() + 1;
+        writeRow(headerRow, beanWriter.getHeaders(), headerStyles);
+        Object[] values = new Object[columnsAmount];
+        int amount = 0;
+        for (T bean : beans) {
+            writeRow(headerRow + amount + 1, beanWriter.readValues(bean, values), styles);
+            amount++;
+        }
+        for (int column = 0; column < columnsAmount; column++) {
+            List<String> options = beanWriter.getOptions(column);
+            if (options != null && amount > 0) {
+                addDropDownList(new CellRangeAddressList(headerRow + 1, headerRow + amount, column, column), options);
+            }
+        }
+        return amount;
+    }
+
     public void setCellDropDownList(int row, int column, List<String> options) {
-        DataValidationHelper dvHelper = createDataValidationHelper();
-        DataValidationConstraint dvConstraint = dvHelper.createExplicitListConstraint(ConverterUtil.convertToArrayWithoutNulls(options));
-        CellRangeAddressList addressList = new CellRangeAddressList(row, row, column, column);
-        DataValidation validation = dvHelper.createValidation(dvConstraint, addressList);
-        validation.setShowErrorBox(true);
-        sheet.addValidationData(validation);
+        addDropDownList(new CellRangeAddressList(row, row, column, column), options);
+    }
+
+    public void setDropDownList(CellRangeAddress range, List<String> options) {
+        if (range == null || range.getFirstRow() < 0 || range.getFirstColumn() < 0) {
+            throw new ExcelHandlingException("Could not set drop down list for range " + range);
+        }
+        dropDownLists.add(sheet, range.copy(), options);
+    }
+
+    public void setCellFormula(int row, int column, String formula) {
+        setDataToCell(row, column, formula, (cell) -> cell.setCellFormula(formula));
+    }
+
+    public void setFormulaEvaluation(boolean enabled) {
+        if (enabled && shared) {
+            throw new ExcelHandlingException("Formulas of shared workbook can not be evaluated");
+        }
+        formulaEvaluation = enabled;
+    }
+
+    public boolean isFormulaEvaluation() {
+        return formulaEvaluation;
+    }
+
+    public void evaluateAll() {
+        try {
+            getFormulaEvaluator().evaluateAll();
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not evaluate formulas in file " + fileName, e);
+        }
+    }
+
+    public void writeTo(OutputStream outputStream) {
+        checkWritableToStream();
+        long start = System.nanoTime();
+        CountingOutputStream countingStream = new CountingOutputStream(outputStream);
+        try {
+            applyDropDownLists();
+            workbook.write(countingStream);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not write workbook to stream", e);
+        }
+        notifySaved(countingStream.getCount(), start);
+    }
+
+    public void writeTo(WritableByteChannel channel) {
+        checkWritableToStream();
+        long start = System.nanoTime();
+        // Channel stream is not buffered and closing it closes the channel, so it is only flushed.
+        CountingOutputStream outputStream = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+        try {
+            applyDropDownLists();
+            workbook.write(outputStream);
+            outputStream.flush();
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not write workbook to channel", e);
+        }
+        notifySaved(outputStream.getCount(), start);
+    }
+
+    /**
+     * Packages of xlsx files opened for reading are opened read-only and can not be written,
+     * so files opened for reading from disk are not written regardless of format.
+     */
+    private void checkWritableToStream() {
+        if (handlingType == HandlingType.READ && fileName != null) {
+            throw new ExcelHandlingException("File opened for reading from disk can not be written, open it from memory instead " + fileName);
+        }
     }
 
     public String getFileName() {
@@ -157,6 +470,10 @@ public abstract class ExcelFileAbstract {
         return workbook;
     }
 
+    public CellStyleRegistry getStyleRegistry() {
+        return styleRegistry;
+    }
+
     public Sheet getCurrentSheet() {
         return sheet;
     }
@@ -170,19 +487,29 @@ public abstract class ExcelFileAbstract {
     }
 
     protected Optional<Cell> getCell(int rowNumber, int columnNumber, boolean createIfNotExists) {
+        return getCell(sheet, rowNumber, columnNumber, createIfNotExists);
+    }
+
+    protected Optional<Cell> getCell(Sheet sheet, int rowNumber, int columnNumber, boolean createIfNotExists) {
         if (rowNumber < 0 || columnNumber < 0) {
             throw new ExcelHandlingException("Can not read cell[" + rowNumber + ", " + columnNumber + "]");
         }
         try {
-            Optional<Row> excelRow = getExcelRow(rowNumber, createIfNotExists);
+            Optional<Row> excelRow = getExcelRow(sheet, rowNumber, createIfNotExists);
             Optional<Cell> cell = excelRow.map(row -> row.getCell(columnNumber));
             return !cell.isPresent() && createIfNotExists ? excelRow.map(row -> row.createCell(columnNumber)) : cell;
+        } catch (ExcelHandlingException e) {
+            throw e;
         } catch (Exception e) {
             throw new ExcelHandlingException("Can not read cell[" + rowNumber + ", " + columnNumber + "]", e);
         }
     }
 
     protected Optional<Row> getExcelRow(int row, boolean createIfNotExists) {
+        return getExcelRow(sheet, row, createIfNotExists);
+    }
+
+    protected Optional<Row> getExcelRow(Sheet sheet, int row, boolean createIfNotExists) {
         if (row < 0) {
             throw new ExcelHandlingException("Could not read row " + row);
         }
@@ -194,7 +521,77 @@ public abstract class ExcelFileAbstract {
         }
     }
 
+    protected RowValues readRow(Sheet sheet, int rowNumber, RowValues rowValues) {
+        if (rowNumber < 0) {
+            throw new ExcelHandlingException("Could not read row " + rowNumber);
+        }
+        rowValues.reset(rowNumber);
+        rowValues.setDate1904(date1904);
+        Row excelRow = sheet.getRow(rowNumber);
+        if (excelRow != null) {
+            if (statistics != null) {
+                statistics.addRowsRead(1);
+            }
+            short lastColumn = excelRow.getLastCellNum();
+            for (int column = 0; column < lastColumn; column++) {
+                Cell cell = excelRow.getCell(column);
+                if (cell != null) {
+                    Object value = getCellValue(cell);
+                    rowValues.setValue(column, value, value instanceof Double && isDateFormatted(cell));
+                }
+            }
+        }
+        return rowValues;
+    }
+
+    protected Stream<RowValues> rows(Sheet sheet, int from, int to) {
+        if (from < 0 || from > to) {
+            throw new ExcelHandlingException("Could not read rows from " + from + " to " + to);
+        }
+        return StreamSupport.stream(new RowSpliterator(row -> readRow(sheet, row, new RowValues()), from, to), false);
+    }
+
+    protected SheetSnapshot snapshot(Sheet sheet) {
+        int from = Math.max(sheet.getFirstRowNum(), 0);
+        return snapshot(sheet, from, Math.max(sheet.getLastRowNum() + 1, from));
+    }
+
+    protected SheetSnapshot snapshot(Sheet sheet, int from, int to) {
+        if (from < 0 || from > to) {
+            throw new ExcelHandlingException("Could not read rows from " + from + " to " + to);
+        }
+        int columnsAmount = 0;
+        for (int row = from; row < to; row++) {
+            Row excelRow = sheet.getRow(row);
+            if (excelRow != null) {
+                columnsAmount = Math.max(columnsAmount, excelRow.getLastCellNum());
+            }
+        }
+        long start = System.nanoTime();
+        SheetSnapshot snapshot = new SheetSnapshot(from, to - from, columnsAmount);
+        int rowsAmount = 0;
+        for (int row = from; row < to; row++) {
+            Row excelRow = sheet.getRow(row);
+            if (excelRow != null) {
+                rowsAmount++;
+                for (Cell cell : excelRow) {
+                    if (cell.getCellType() != CellType.BLANK) {
+                        snapshot.setValue(row, cell.getColumnIndex(), getCellValue(cell));
+                    }
+                }
+            }
+        }
+        if (statistics != null) {
+            statistics.addRowsRead(rowsAmount);
+            listener.onSheetRead(fileName, sheet.getSheetName(), rowsAmount, System.nanoTime() - start);
+        }
+        return snapshot;
+    }
+
     protected <T extends Cell> Object getCellValue(T cell) {
+        if (statistics != null) {
+            statistics.addCellsRead(1);
+        }
         try {
             switch (cell.getCellType()) {
                 case BLANK:
@@ -208,7 +605,7 @@ public abstract class ExcelFileAbstract {
                 case ERROR:
                     return cell.getErrorCellValue();
                 case FORMULA:
-                    return getFormulaValue(cell);
+                    return formulaEvaluation ? evaluateFormula(cell) : getFormulaValue(cell);
                 default:
                     return null;
             }
@@ -226,30 +623,223 @@ public abstract class ExcelFileAbstract {
         }
     }
 
+    /**
+     * Returns evaluated formula value of the same types as other cells have.
+     */
+    protected Object evaluateFormula(Cell cell) {
+        CellValue value = getFormulaEvaluator().evaluate(cell);
+        switch (value.getCellType()) {
+            case NUMERIC:
+                return value.getNumberValue();
+            case STRING:
+                return value.getStringValue().trim();
+            case BOOLEAN:
+                return value.getBooleanValue();
+            case ERROR:
+                return value.getErrorValue();
+            default:
+                return "";
+        }
+    }
+
+    protected FormulaEvaluator getFormulaEvaluator() {
+        if (shared) {
+            throw new ExcelHandlingException("Formulas of shared workbook can not be evaluated");
+        }
+        if (formulaEvaluator == null) {
+            formulaEvaluator = workbook.getCreationHelper().createFormulaEvaluator();
+        }
+        return formulaEvaluator;
+    }
+
+    /**
+     * Marks file as read by many threads. Evaluator is not thread-safe, so evaluation mode is switched off
+     * and only cached formula results are read since then.
+     */
+    void share() {
+        shared = true;
+        formulaEvaluation = false;
+    }
+
+    /**
+     * Invalidates cached results of formulas dependent on changed cell. Nothing is cached before the first evaluation.
+     */
+    protected void notifyCellChanged(Cell cell) {
+        if (formulaEvaluator != null) {
+            if (cell.getCellType() == CellType.FORMULA) {
+                formulaEvaluator.notifySetFormula(cell);
+            } else {
+                formulaEvaluator.notifyUpdateCell(cell);
+            }
+        }
+    }
+
     protected String getString(Cell cell) {
         return Optional.ofNullable(cell.getRichStringCellValue().getString())
                 .map(String::trim)
                 .orElse(null);
     }
 
+    /**
+     * Writes workbook into temporary file in the same directory, forces it to disk and moves it to the file name,
+     * so the file is replaced only by complete workbook even after system crash.
+     */
     protected void save() {
-        try (FileOutputStream fileOut = new FileOutputStream(fileName)) {
-            workbook.write(fileOut);
+        long start = System.nanoTime();
+        Path path = Paths.get(fileName).toAbsolutePath();
+        Path tempFile = path.resolveSibling("." + path.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                OutputStream fileOut = new BufferedOutputStream(Channels.newOutputStream(channel));
+                applyDropDownLists();
+                workbook.write(fileOut);
+                fileOut.flush();
+                channel.force(true);
+            }
+            moveAtomically(tempFile, path);
         } catch (Exception e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
             throw new ExcelHandlingException("Close excel file if it is opened! Could not save file " + fileName, e);
         }
+        if (statistics != null) {
+            notifySaved(new File(fileName).length(), start);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // File system can not rename atomically, the file is still replaced by complete workbook only.
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reports saving duration and size to the listener.
+     */
+    protected void notifySaved(long bytesWritten, long start) {
+        if (statistics != null) {
+            listener.onSave(fileName, bytesWritten, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Writes values into the row. Not null style from styles array is applied to the cell with the same column index.
+     */
+    protected void writeRow(int row, Object[] values, CellStyle[] styles) {
+        if (values == null || values.length == 0) {
+            return;
+        }
+        Row excelRow = getExcelRow(row, true).get();
+        int cellsAmount = 0;
+        for (int column = 0; column < values.length; column++) {
+            if (values[column] != null) {
+                cellsAmount++;
+                Cell cell = excelRow.getCell(column);
+                if (cell == null) {
+                    cell = excelRow.createCell(column);
+                }
+                setCellValue(cell, values[column]);
+                notifyCellChanged(cell);
+                CellStyle style = styles == null ? null : styles[column];
+                if (style != null) {
+                    cell.setCellStyle(style);
+                }
+            }
+        }
+        if (statistics != null) {
+            statistics.addRowsWritten(1);
+            statistics.addCellsWritten(cellsAmount);
+        }
+    }
+
+    /**
+     * Collects drop down list for current sheet, validations are added when workbook is written.
+     */
+    protected void addDropDownList(CellRangeAddressList addressList, List<String> options) {
+        for (CellRangeAddress range : addressList.getCellRangeAddresses()) {
+            dropDownLists.add(sheet, range, options);
+        }
+    }
+
+    /**
+     * Adds collected drop down lists as validations, ranges with identical options are merged into one validation.
+     */
+    protected void applyDropDownLists() {
+        int validationsAmount = dropDownLists.apply(this::createDataValidationHelper);
+        if (statistics != null) {
+            statistics.addValidations(validationsAmount);
+        }
+    }
+
+    protected void setCellValue(Cell cell, Object value) {
+        if (value instanceof String) {
+            cell.setCellValue((String) value);
+        } else if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value instanceof Date) {
+            cell.setCellStyle(styleRegistry.getStyle(DEFAULT_DATE_FORMAT));
+            cell.setCellValue((Date) value);
+        } else if (value instanceof LocalDate) {
+            cell.setCellStyle(styleRegistry.getStyle(DEFAULT_DATE_FORMAT));
+            cell.setCellValue((LocalDate) value);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellStyle(styleRegistry.getStyle(DEFAULT_DATE_TIME_FORMAT));
+            cell.setCellValue((LocalDateTime) value);
+        } else {
+            cell.setCellValue(value.toString());
+        }
     }
 
     protected void setDataToCell(int row, int column, Object value, Consumer<CellBase> consumer) {
         if (value != null) {
-            getCell(row, column, true).map(c -> (CellBase) c).ifPresent(consumer);
+            getCell(row, column, true).map(c -> (CellBase) c).ifPresent(cell -> {
+                consumer.accept(cell);
+                notifyCellChanged(cell);
+                if (statistics != null) {
+                    statistics.addCellsWritten(1);
+                }
+            });
         }
     }
 
+    /**
+     * Returns true if cell style has date format, cell value is not checked.
+     */
+    protected boolean isDateFormatted(Cell cell) {
+        CellStyle style = cell.getCellStyle();
+        return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+    }
+
+    private static boolean isDate1904(Workbook workbook) {
+        return workbook instanceof Date1904Support && ((Date1904Support) workbook).isDate1904();
+    }
+
+    /**
+     * Releases workbook resources including the file opened for reading.
+     */
+    protected void closeWorkbook() throws IOException {
+        workbook.close();
+    }
+
+    /**
+     * Reads workbook from the stream for in-memory reading. Closing of provided stream does not close the caller's stream.
+     */
+    protected Workbook readWorkbook(InputStream inputStream) {
+        throw new ExcelHandlingException("Reading from stream is not supported by " + getClass().getSimpleName());
+    }
+
     protected abstract Workbook loadWorkbook();
 
     protected abstract Workbook createWorkbook();
 
-    protected abstract DataValidationHelper createDataValidationHelper();
+    protected abstract DataValidationHelper createDataValidationHelper(Sheet sheet);
 
 }
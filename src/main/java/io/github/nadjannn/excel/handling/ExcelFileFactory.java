@@ -1,8 +1,19 @@
 package io.github.nadjannn.excel.handling;
 
 import io.github.nadjannn.excel.handling.hssf.HSSFExcelFile;
+import io.github.nadjannn.excel.handling.hssf.HSSFStreamingReader;
+import io.github.nadjannn.excel.handling.xssf.SXSSFExcelFile;
 import io.github.nadjannn.excel.handling.xssf.XSSFExcelFile;
+import io.github.nadjannn.excel.handling.xssf.XSSFStreamingReader;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.poifs.filesystem.FileMagic;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 
 /**
  * Factory for file opening when type is defined based on a file extension.
@@ -13,6 +24,26 @@ public class ExcelFileFactory {
 
     private static final String XSSF_EXTENSION = ".xlsx";
 
+    private static volatile ExcelFileListener listener = ExcelFileListener.NO_OP;
+
+    /**
+     * Sets listener for all files opened after this call, files which are already opened keep their listener.
+     *
+     * @param listener ExcelFileListener instance or null to reset it to no-op listener.
+     */
+    public static void setListener(ExcelFileListener listener) {
+        ExcelFileFactory.listener = listener == null ? ExcelFileListener.NO_OP : listener;
+    }
+
+    /**
+     * Returns listener which is taken by opened files.
+     *
+     * @return ExcelFileListener instance, no-op listener by default.
+     */
+    public static ExcelFileListener getListener() {
+        return listener;
+    }
+
     /**
      * Returns Excel file for handling. Returns XSSFFile instance for xlsx
      * files. Returns HSSFFile instance for xls files.
@@ -34,4 +65,176 @@ public class ExcelFileFactory {
         }
     }
 
+    /**
+     * Returns Excel file for handling, see {@link #openExcelFile(String, HandlingType)}.
+     * File opened for reading is accessed directly without buffering it into memory and is released on close.
+     *
+     * @param path Path of the file, use {@link File#toPath()} for File instance.
+     * @param handlingType reading or writing type of file handling.
+     * @return ExcelFile instance for reading or writing.
+     */
+    public static ExcelFile openExcelFileByPath(Path path, HandlingType handlingType) {
+        return openExcelFile(path == null ? null : path.toString(), handlingType);
+    }
+
+    /**
+     * Returns in-memory Excel file for reading. File type is defined by its content, not by a file name.
+     * Stream is read fully and is not closed.
+     *
+     * @param inputStream stream with workbook content.
+     * @return ExcelFile instance for reading.
+     */
+    public static ExcelFile openExcelFile(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new ExcelHandlingException("Input stream has to be not null");
+        }
+        return readExcelFile(FileMagic.prepareToCheckMagic(inputStream));
+    }
+
+    /**
+     * Returns in-memory Excel file for reading. File type is defined by its content.
+     *
+     * @param content workbook content.
+     * @return ExcelFile instance for reading.
+     */
+    public static ExcelFile openExcelFile(byte[] content) {
+        if (content == null) {
+            throw new ExcelHandlingException("Content has to be not null");
+        }
+        return readExcelFile(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Returns in-memory Excel file for reading from remaining bytes of the buffer. File type is defined by its content.
+     * Buffer position is not changed.
+     *
+     * @param content workbook content.
+     * @return ExcelFile instance for reading.
+     */
+    public static ExcelFile openExcelFile(ByteBuffer content) {
+        if (content == null) {
+            throw new ExcelHandlingException("Content has to be not null");
+        }
+        if (content.hasArray()) {
+            return readExcelFile(new ByteArrayInputStream(content.array(),
+                    content.arrayOffset() + content.position(), content.remaining()));
+        }
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return readExcelFile(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Returns new in-memory Excel file for writing. It is not saved on close,
+     * use {@link ExcelFile#writeTo(java.io.OutputStream)} to get its content.
+     *
+     * @param format format of the workbook.
+     * @return ExcelFile instance for writing.
+     */
+    public static ExcelFile createExcelFile(ExcelFormat format) {
+        if (format == null) {
+            throw new ExcelHandlingException("Format has to be not null");
+        }
+        return format == ExcelFormat.HSSF ? new HSSFExcelFile() : new XSSFExcelFile();
+    }
+
+    /**
+     * Returns Excel file for streaming reading row by row. Returns XSSFStreamingReader instance for xlsx
+     * files. Returns HSSFStreamingReader instance for xls files.
+     *
+     * @param fileName String value of file name.
+     * @return ExcelStreamingReader instance.
+     */
+    public static ExcelStreamingReader openStreamingReader(String fileName) {
+        if (StringUtils.isEmpty(fileName)) {
+            throw new ExcelHandlingException("File name has to be not empty");
+        }
+        if (fileName.endsWith(HSSF_EXTENSION)) {
+            return new HSSFStreamingReader(fileName);
+        } else if (fileName.endsWith(XSSF_EXTENSION)) {
+            return new XSSFStreamingReader(fileName);
+        } else {
+            throw new ExcelHandlingException("Unsupported file type");
+        }
+    }
+
+    /**
+     * Returns Excel file for streaming reading row by row, see {@link #openStreamingReader(String)}.
+     *
+     * @param path Path of the file.
+     * @return ExcelStreamingReader instance.
+     */
+    public static ExcelStreamingReader openStreamingReaderByPath(Path path) {
+        return openStreamingReader(path == null ? null : path.toString());
+    }
+
+    /**
+     * Returns Excel file for streaming writing with default row window size. Only xlsx files are supported.
+     *
+     * @param fileName String value of file name.
+     * @return ExcelFile instance for writing.
+     */
+    public static ExcelFile openStreamingWriter(String fileName) {
+        return openStreamingWriter(fileName, SXSSFExcelFile.DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * Returns Excel file for streaming writing. Only xlsx files are supported.
+     * Only the latest rowWindowSize rows are kept in memory, other rows are flushed to disk and can not be changed.
+     *
+     * @param fileName String value of file name.
+     * @param rowWindowSize amount of rows kept in memory.
+     * @return ExcelFile instance for writing.
+     */
+    public static ExcelFile openStreamingWriter(String fileName, int rowWindowSize) {
+        if (StringUtils.isEmpty(fileName)) {
+            throw new ExcelHandlingException("File name has to be not empty");
+        }
+        if (fileName.endsWith(XSSF_EXTENSION)) {
+            return new SXSSFExcelFile(fileName, rowWindowSize);
+        } else {
+            throw new ExcelHandlingException("Unsupported file type");
+        }
+    }
+
+    /**
+     * Returns read-only workbook which can be shared between threads, every thread reads it with its own cursor.
+     *
+     * @param fileName String value of file name.
+     * @return SharedExcelWorkbook instance.
+     */
+    public static SharedExcelWorkbook openSharedWorkbook(String fileName) {
+        return new SharedExcelWorkbook(openExcelFile(fileName, HandlingType.READ));
+    }
+
+    /**
+     * Returns format of the workbook defined by magic bytes of its content.
+     *
+     * @param inputStream stream with content, it has to support mark.
+     * @return ExcelFormat value.
+     */
+    private static ExcelFormat detectFormat(InputStream inputStream) {
+        FileMagic fileMagic;
+        try {
+            fileMagic = FileMagic.valueOf(inputStream);
+        } catch (IOException e) {
+            throw new ExcelHandlingException("Could not read workbook content", e);
+        }
+        if (fileMagic == FileMagic.OLE2) {
+            return ExcelFormat.HSSF;
+        } else if (fileMagic == FileMagic.OOXML) {
+            return ExcelFormat.XSSF;
+        } else {
+            throw new ExcelHandlingException("Unsupported file type");
+        }
+    }
+
+    private static ExcelFile readExcelFile(InputStream inputStream) {
+        if (detectFormat(inputStream) == ExcelFormat.HSSF) {
+            return new HSSFExcelFile(inputStream);
+        } else {
+            return new XSSFExcelFile(inputStream);
+        }
+    }
+
 }
@@ -0,0 +1,56 @@
+package io.github.nadjannn.excel.handling;
+
+/**
+ * Listener for workbook operations which can export durations and counters to a metrics system.
+ * Listener is set with {@link ExcelFileFactory#setListener(ExcelFileListener)} and is taken by files when they are opened.
+ * Methods are called from the thread which performs the operation, all methods do nothing by default.
+ */
+public interface ExcelFileListener {
+
+    /**
+     * Listener which does nothing, counters are not collected for files opened with it.
+     */
+    ExcelFileListener NO_OP = new ExcelFileListener() {
+    };
+
+    /**
+     * Is called when workbook is loaded for reading or streaming reader is opened.
+     *
+     * @param fileName      String value of file name, null for in-memory workbooks.
+     * @param bytesRead     amount of bytes of the file or of the stream.
+     * @param durationNanos loading duration in nanoseconds.
+     */
+    default void onLoad(String fileName, long bytesRead, long durationNanos) {
+    }
+
+    /**
+     * Is called when the whole sheet is parsed by streaming reader or decoded into snapshot.
+     *
+     * @param fileName      String value of file name, null for in-memory workbooks.
+     * @param sheetName     String value of sheet name.
+     * @param rowsAmount    amount of read rows.
+     * @param durationNanos parsing duration in nanoseconds.
+     */
+    default void onSheetRead(String fileName, String sheetName, int rowsAmount, long durationNanos) {
+    }
+
+    /**
+     * Is called when workbook is saved into the file or is written to a stream or a channel.
+     *
+     * @param fileName      String value of file name, null for in-memory workbooks.
+     * @param bytesWritten  size of the written workbook.
+     * @param durationNanos saving duration in nanoseconds.
+     */
+    default void onSave(String fileName, long bytesWritten, long durationNanos) {
+    }
+
+    /**
+     * Is called when file is closed after it was saved.
+     *
+     * @param fileName   String value of file name, null for in-memory workbooks.
+     * @param statistics counters of the whole session with the file.
+     */
+    default void onClose(String fileName, ExcelFileStatistics statistics) {
+    }
+
+}
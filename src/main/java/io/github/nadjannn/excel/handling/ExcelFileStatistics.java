@@ -0,0 +1,111 @@
+package io.github.nadjannn.excel.handling;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of rows and cells read and written during the session with one file. Counters are collected
+ * only when listener is set, cursors of shared workbook update them concurrently.
+ */
+public class ExcelFileStatistics {
+
+    private final LongAdder rowsRead = new LongAdder();
+
+    private final LongAdder cellsRead = new LongAdder();
+
+    private final LongAdder rowsWritten = new LongAdder();
+
+    private final LongAdder cellsWritten = new LongAdder();
+
+    private final LongAdder validationsAmount = new LongAdder();
+
+    private volatile int stylesAmount;
+
+    ExcelFileStatistics() {
+    }
+
+    /**
+     * Returns amount of rows read with readRow, rows and snapshot methods.
+     *
+     * @return long value of rows amount.
+     */
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    /**
+     * Returns amount of cell values read, including cells read by rows. Cells read by {@link RowCursor} are not counted.
+     *
+     * @return long value of cells amount.
+     */
+    public long getCellsRead() {
+        return cellsRead.sum();
+    }
+
+    /**
+     * Returns amount of rows written with writeRow, appendRows and writeBeans methods.
+     *
+     * @return long value of rows amount.
+     */
+    public long getRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    /**
+     * Returns amount of cell values written, including cells written by rows.
+     *
+     * @return long value of cells amount.
+     */
+    public long getCellsWritten() {
+        return cellsWritten.sum();
+    }
+
+    /**
+     * Returns amount of data validations added for drop down lists.
+     *
+     * @return long value of validations amount.
+     */
+    public long getValidationsAmount() {
+        return validationsAmount.sum();
+    }
+
+    /**
+     * Returns amount of cell styles in the workbook when file is closed.
+     *
+     * @return int value of styles amount.
+     */
+    public int getStylesAmount() {
+        return stylesAmount;
+    }
+
+    void addRowsRead(long amount) {
+        rowsRead.add(amount);
+    }
+
+    void addCellsRead(long amount) {
+        cellsRead.add(amount);
+    }
+
+    void addRowsWritten(long amount) {
+        rowsWritten.add(amount);
+    }
+
+    void addCellsWritten(long amount) {
+        cellsWritten.add(amount);
+    }
+
+    void addValidations(long amount) {
+        validationsAmount.add(amount);
+    }
+
+    void setStylesAmount(int stylesAmount) {
+        this.stylesAmount = stylesAmount;
+    }
+
+    @Override
+    public String toString() {
+        return "ExcelFileStatistics{rowsRead=" + getRowsRead() + ", cellsRead=" + getCellsRead()
+                + ", rowsWritten=" + getRowsWritten() + ", cellsWritten=" + getCellsWritten()
+                + ", validationsAmount=" + getValidationsAmount() + ", stylesAmount=" + stylesAmount + "}";
+    }
+
+}
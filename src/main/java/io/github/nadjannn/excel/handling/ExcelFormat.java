@@ -0,0 +1,17 @@
+package io.github.nadjannn.excel.handling;
+
+/**
+ * Enumeration of supported workbook formats.
+ */
+public enum ExcelFormat {
+
+    /**
+     * Excel 97-2004 Workbook (.xls).
+     */
+    HSSF,
+
+    /**
+     * Excel Workbook (.xlsx).
+     */
+    XSSF
+}
@@ -0,0 +1,220 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reading functionality for one sheet of Excel file.
+ */
+public interface ExcelSheetReader {
+
+    /**
+     * Returns number of physical rows from current loaded sheet, i.e. empty rows are excluded
+     *
+     * @return Integer value of rows.
+     */
+    int getNumberOfRows();
+
+    /**
+     * Returns the latest row index from current loaded sheet. Counting starts from zero.
+     *
+     * @return int value of last row index on current sheet.
+     */
+    int getLastRowNum();
+
+    /**
+     * Returns columns amount in particular row.
+     *
+     * @param row Integer value of row counted from zero.
+     * @return short value with columns amount in particular row.
+     */
+    short getLastColumnNumber(int row);
+
+    /**
+     * Returns current loaded sheet's name.
+     *
+     * @return String value of current loaded sheet's name.
+     */
+    String getSheetName();
+
+    /**
+     * Returns Optional value with Row instance if such row is present on current sheet.
+     *
+     * @param row Integer value of row number counted from zero.
+     * @return Optional value with Row instance if such row is present on current sheet.
+     */
+    Optional<Row> getExcelRow(int row);
+
+    /**
+     * Reads value from particular cell on current loaded sheet.
+     *
+     * @param row Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @param <T> Cell value type, it can be String for text value, Double for numerical, Boolean for boolean value or Byte with error code.
+     * @return Optional with some value from particular cell, which is String for text, Double for numerical types or formulas, Byte for error codes or Boolean.
+     */
+    <T> Optional<T> getCellValue(int row, int column);
+
+    /**
+     * Reads all cells of particular row from current loaded sheet. Row is looked up once and all cells up to
+     * {@link #getLastColumnNumber(int)} are decoded. Returns empty RowValues if row is not present.
+     *
+     * @param row Integer row value counted from zero.
+     * @return RowValues with values of all cells in the row.
+     */
+    RowValues readRow(int row);
+
+    /**
+     * Reads all cells of particular row from current loaded sheet into provided RowValues instance, so it can be reused for many rows.
+     *
+     * @param row       Integer row value counted from zero.
+     * @param rowValues RowValues instance to be filled.
+     * @return provided RowValues instance filled with row values.
+     */
+    RowValues readRow(int row, RowValues rowValues);
+
+    /**
+     * Returns lazy stream of all rows from current loaded sheet, from the first row to {@link #getLastRowNum()}.
+     * Rows which are not present on the sheet are returned as empty RowValues.
+     * Stream is sized and can be split for parallel processing, workbook should not be changed while stream is processed.
+     *
+     * @return Stream of RowValues.
+     */
+    Stream<RowValues> rows();
+
+    /**
+     * Returns lazy stream of rows from current loaded sheet within the range.
+     * Rows which are not present on the sheet are returned as empty RowValues.
+     *
+     * @param from Integer value of the first row index, inclusive.
+     * @param to   Integer value of the last row index, exclusive.
+     * @return Stream of RowValues.
+     */
+    Stream<RowValues> rows(int from, int to);
+
+    /**
+     * Decodes current loaded sheet once into read-only columnar {@link SheetSnapshot}, which is read without allocations.
+     *
+     * @return SheetSnapshot with all rows of the sheet.
+     */
+    SheetSnapshot snapshot();
+
+    /**
+     * Decodes rows of current loaded sheet within the range once into read-only columnar {@link SheetSnapshot}.
+     *
+     * @param from Integer value of the first row index, inclusive.
+     * @param to   Integer value of the last row index, exclusive.
+     * @return SheetSnapshot with rows from the range.
+     */
+    SheetSnapshot snapshot(int from, int to);
+
+    /**
+     * Returns new cursor for sequential reading of current loaded sheet with primitive getters.
+     *
+     * @return RowCursor positioned before the first row.
+     */
+    RowCursor rowCursor();
+
+    /**
+     * Returns true if workbook uses 1904 date system, where serial number 0 is 1 January 1904.
+     *
+     * @return boolean value of workbook date system.
+     */
+    boolean isDate1904();
+
+    /**
+     * Reads value from cell, returns empty string is cell value is undefined. Cell value is converted to String.
+     *
+     * @param row    Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @return String value from the cell.
+     */
+    default String getCellValueString(int row, int column) {
+        return getCellValueString(row, column, false);
+    }
+
+    /**
+     * Reads value from cell, returns empty string is cell value is undefined. Cell value is converted to String.
+     * Removes extra zeros after dot for numerical values.
+     * Applies local computer settings for numerical values representation if parameter format is true.
+     *
+     * @param row    Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @param format boolean value. It is affected on numerical values only, decimal point view will be taken from local computer settings if this parameter is true. Decimal point is always just a dot for numerical values if this parameter is false.
+     * @return String value from the cell.
+     */
+    default String getCellValueString(int row, int column, boolean format) {
+        return getCellValue(row, column).map(v -> ConverterUtil.convertToString(v, format)).orElse("");
+    }
+
+    /**
+     * Returns Optional Double value if cell had a number. Optional is an empty if cell is not numerical.
+     *
+     * @param row    Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @return Optional Double value.
+     */
+    default Optional<Double> getCellValueDouble(int row, int column) {
+        return getCellValue(row, column)
+                .map(v -> (v instanceof Double) ? (Double) v : null);
+    }
+
+    /**
+     * Returns Optional Boolean value if cell had a boolean. Optional is an empty if cell is not boolean.
+     *
+     * @param row    Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @return Optional Boolean value.
+     */
+    default Optional<Boolean> getCellValueBoolean(int row, int column) {
+        return getCellValue(row, column)
+                .map(v -> (v instanceof Boolean) ? (Boolean) v : null);
+    }
+
+    /**
+     * Returns Optional Date value if cell had a number or date, number is converted into Date.
+     * Optional is an empty if cell is not numerical or date type.
+     *
+     * @param row    row Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @return Optional Date value.
+     */
+    default Optional<Date> getCellValueDate(int row, int column) {
+        return getCellValue(row, column)
+                .map(v -> (v instanceof Double) ? DateUtil.getJavaDate((Double) v, isDate1904()) : null);
+    }
+
+    /**
+     * Returns Optional LocalDate value if cell had a number or date, number is converted with workbook date system.
+     * Optional is an empty if cell is not numerical or date type or number is negative.
+     *
+     * @param row    row Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @return Optional LocalDate value.
+     */
+    default Optional<LocalDate> getCellValueLocalDate(int row, int column) {
+        return getCellValueDouble(row, column)
+                .filter(ExcelDateConverter::isValid)
+                .map(v -> ExcelDateConverter.toLocalDate(v, isDate1904()));
+    }
+
+    /**
+     * Returns Optional LocalDateTime value if cell had a number or date, number is converted with workbook date system.
+     * Optional is an empty if cell is not numerical or date type or number is negative.
+     *
+     * @param row    row Integer row value counted from zero.
+     * @param column Integer column value counted from zero.
+     * @return Optional LocalDateTime value.
+     */
+    default Optional<LocalDateTime> getCellValueLocalDateTime(int row, int column) {
+        return getCellValueDouble(row, column)
+                .filter(ExcelDateConverter::isValid)
+                .map(v -> ExcelDateConverter.toLocalDateTime(v, isDate1904()));
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.nadjannn.excel.handling;
+
+import java.util.function.Consumer;
+
+/**
+ * Excel file which is read row by row without loading the whole workbook into memory.
+ */
+public interface ExcelStreamingReader extends AutoCloseable {
+
+    /**
+     * Returns sheets amount from processing file.
+     *
+     * @return Integers value of sheets amount.
+     */
+    int getSheetsAmount();
+
+    /**
+     * Returns current loaded sheet's name.
+     *
+     * @return String value of current loaded sheet's name.
+     */
+    String getSheetName();
+
+    /**
+     * Selects sheet with particular index for reading. Sheets counting starts from 0.
+     *
+     * @param sheetIndex Integer number for sheet loading.
+     */
+    void loadSheet(int sheetIndex);
+
+    /**
+     * Returns current sheet index, numeration is staring from zero
+     *
+     * @return int value of current sheet index
+     */
+    int getCurrentSheetIndex();
+
+    /**
+     * Reads rows of current sheet in order and passes every row with at least one cell to the consumer.
+     * The same RowValues instance is passed for all rows, use {@link RowValues#copy()} to keep values.
+     *
+     * @param consumer consumer for every row.
+     */
+    void readRows(Consumer<RowValues> consumer);
+
+    /**
+     * Returns file name of current processing file
+     *
+     * @return String value of processing file
+     */
+    String getFileName();
+
+    /**
+     * Closes file to release it.
+     *
+     * @throws ExcelClosingException throws ExcelClosingException in case of error.
+     */
+    @Override
+    void close() throws ExcelClosingException;
+
+}
@@ -0,0 +1,110 @@
+package io.github.nadjannn.excel.handling;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reading regardless to file type: 97-2004 or latest one.
+ */
+public abstract class ExcelStreamingReaderAbstract {
+
+    /**
+     * Processing file name.
+     */
+    protected final String fileName;
+
+    /**
+     * Sheet names in workbook order.
+     */
+    protected final List<String> sheetNames = new ArrayList<>();
+
+    /**
+     * Current sheet index. Counting starts from 0.
+     */
+    protected int sheetIndex;
+
+    /**
+     * Listener taken from the factory when file is opened.
+     */
+    protected final ExcelFileListener listener = ExcelFileFactory.getListener();
+
+    public ExcelStreamingReaderAbstract(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public int getSheetsAmount() {
+        return sheetNames.size();
+    }
+
+    public String getSheetName() {
+        return sheetNames.get(sheetIndex);
+    }
+
+    public void loadSheet(int sheetIndex) {
+        if (sheetIndex < 0 || sheetIndex >= sheetNames.size()) {
+            throw new ExcelHandlingException("Could not load sheet " + sheetIndex + " from file " + fileName);
+        }
+        this.sheetIndex = sheetIndex;
+    }
+
+    public int getCurrentSheetIndex() {
+        return sheetIndex;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Reports opening duration and file size to the listener.
+     */
+    protected void notifyLoaded(long start) {
+        if (listener != ExcelFileListener.NO_OP) {
+            listener.onLoad(fileName, new File(fileName).length(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reports sheet parsing duration and amount of rows to the listener.
+     */
+    protected void notifySheetRead(int sheetIndex, int rowsAmount, long start) {
+        if (listener != ExcelFileListener.NO_OP) {
+            listener.onSheetRead(fileName, sheetNames.get(sheetIndex), rowsAmount, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Consumer of rows which remembers exception thrown by the caller's consumer. Such exception is passed to the caller
+     * as it is, while other failures of sheet parsing are wrapped into ExcelHandlingException.
+     */
+    protected static final class RowsConsumer implements Consumer<RowValues> {
+
+        private final Consumer<RowValues> consumer;
+
+        private RuntimeException failure;
+
+        public RowsConsumer(Consumer<RowValues> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(RowValues rowValues) {
+            try {
+                consumer.accept(rowValues);
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        /**
+         * Returns true if exception is thrown by the caller's consumer.
+         */
+        public boolean isThrownByConsumer(Exception e) {
+            return e != null && e == failure;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Reusable cursor for sequential reading of one sheet with primitive getters. Cursor remembers current row,
+ * so cells of one row are read without row lookups and numerical, boolean and type getters do not create objects.
+ * Formula cells are read by type of their cached results, unlike {@link ExcelFile#getCellValue(int, int)}
+ * which returns zero for formulas with not numerical results. So formula with cached text result is a STRING cell
+ * for cursor and numerical getters return default value for it. Cursor never evaluates formulas,
+ * {@link ExcelFile#setFormulaEvaluation(boolean)} does not affect it. Cursor is not thread-safe.
+ */
+public class RowCursor {
+
+    private final Sheet sheet;
+
+    private final boolean date1904;
+
+    private Row row;
+
+    private int rowNum = -1;
+
+    RowCursor(Sheet sheet, boolean date1904) {
+        this.sheet = sheet;
+        this.date1904 = date1904;
+    }
+
+    /**
+     * Moves cursor to the row with particular index.
+     *
+     * @param rowNum Integer value of row number counted from zero.
+     * @return true if row is present on the sheet.
+     */
+    public boolean moveTo(int rowNum) {
+        if (rowNum < 0) {
+            throw new ExcelHandlingException("Could not read row " + rowNum);
+        }
+        this.rowNum = rowNum;
+        row = sheet.getRow(rowNum);
+        return row != null;
+    }
+
+    /**
+     * Moves cursor to the next row, absent rows are not skipped.
+     *
+     * @return false if cursor is already on the last row of the sheet.
+     */
+    public boolean next() {
+        if (rowNum >= sheet.getLastRowNum()) {
+            return false;
+        }
+        moveTo(rowNum + 1);
+        return true;
+    }
+
+    /**
+     * Returns index of current row counted from zero, -1 before the first move.
+     *
+     * @return int value of row index.
+     */
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    /**
+     * Returns true if current row is present on the sheet.
+     *
+     * @return boolean value.
+     */
+    public boolean isPresent() {
+        return row != null;
+    }
+
+    /**
+     * Returns columns amount of current row, i.e. index of the last present cell plus one.
+     *
+     * @return int value of columns amount.
+     */
+    public int getLastColumnNumber() {
+        return row == null ? 0 : Math.max(row.getLastCellNum(), 0);
+    }
+
+    /**
+     * Returns type of cell value, type of cached result is returned for formulas and BLANK for absent cells.
+     *
+     * @param column Integer value of column number counted from zero.
+     * @return CellType value.
+     */
+    public CellType typeOf(int column) {
+        Cell cell = getCell(column);
+        if (cell == null) {
+            return CellType.BLANK;
+        }
+        CellType type = cell.getCellType();
+        return type == CellType.FORMULA ? cell.getCachedFormulaResultType() : type;
+    }
+
+    /**
+     * Returns true if cell is absent or blank.
+     *
+     * @param column Integer value of column number counted from zero.
+     * @return boolean value.
+     */
+    public boolean isBlank(int column) {
+        return typeOf(column) == CellType.BLANK;
+    }
+
+    /**
+     * Returns numerical cell value or default value for cells of other types.
+     *
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not numerical cells.
+     * @return double value.
+     */
+    public double getDouble(int column, double defaultValue) {
+        return typeOf(column) == CellType.NUMERIC ? getCell(column).getNumericCellValue() : defaultValue;
+    }
+
+    /**
+     * Returns numerical cell value truncated to long or default value for cells of other types.
+     *
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not numerical cells.
+     * @return long value.
+     */
+    public long getLong(int column, long defaultValue) {
+        return typeOf(column) == CellType.NUMERIC ? (long) getCell(column).getNumericCellValue() : defaultValue;
+    }
+
+    /**
+     * Returns date of numerical cell as days from 1970-01-01 or default value for cells of other types and negative numbers.
+     * Number is converted with workbook date system, time part is ignored.
+     *
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not date cells.
+     * @return long value of days.
+     */
+    public long getEpochDay(int column, long defaultValue) {
+        double serial = getDouble(column, -1D);
+        return ExcelDateConverter.isValid(serial) ? ExcelDateConverter.toEpochDay(serial, date1904) : defaultValue;
+    }
+
+    /**
+     * Returns local date-time of numerical cell as milliseconds from 1970-01-01T00:00 or default value
+     * for cells of other types and negative numbers. Number is converted with workbook date system.
+     *
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not date cells.
+     * @return long value of milliseconds.
+     */
+    public long getEpochMilli(int column, long defaultValue) {
+        double serial = getDouble(column, -1D);
+        return ExcelDateConverter.isValid(serial) ? ExcelDateConverter.toEpochMilli(serial, date1904) : defaultValue;
+    }
+
+    /**
+     * Returns boolean cell value or default value for cells of other types.
+     *
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not boolean cells.
+     * @return boolean value.
+     */
+    public boolean getBoolean(int column, boolean defaultValue) {
+        return typeOf(column) == CellType.BOOLEAN ? getCell(column).getBooleanCellValue() : defaultValue;
+    }
+
+    /**
+     * Returns trimmed text cell value or null for cells of other types.
+     *
+     * @param column Integer value of column number counted from zero.
+     * @return String value or null.
+     */
+    public String getString(int column) {
+        return typeOf(column) == CellType.STRING ? getCell(column).getStringCellValue().trim() : null;
+    }
+
+    private Cell getCell(int column) {
+        if (column < 0) {
+            throw new ExcelHandlingException("Can not read cell[" + rowNum + ", " + column + "]");
+        }
+        return row == null ? null : row.getCell(column);
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.github.nadjannn.excel.handling;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over range of row indexes. Rows are decoded lazily, range is split in halves for parallel processing.
+ */
+class RowSpliterator implements Spliterator<RowValues> {
+
+    private static final int MIN_SPLIT_SIZE = 128;
+
+    private final IntFunction<RowValues> rowReader;
+
+    private int from;
+
+    private final int to;
+
+    RowSpliterator(IntFunction<RowValues> rowReader, int from, int to) {
+        this.rowReader = rowReader;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super RowValues> action) {
+        if (from >= to) {
+            return false;
+        }
+        action.accept(rowReader.apply(from++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super RowValues> action) {
+        int end = to;
+        for (int row = from; row < end; row++) {
+            action.accept(rowReader.apply(row));
+        }
+        from = end;
+    }
+
+    @Override
+    public Spliterator<RowValues> trySplit() {
+        int size = to - from;
+        if (size < MIN_SPLIT_SIZE * 2) {
+            return null;
+        }
+        int middle = from + size / 2;
+        RowSpliterator prefix = new RowSpliterator(rowReader, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+}
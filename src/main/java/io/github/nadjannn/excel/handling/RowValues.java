@@ -0,0 +1,301 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Values of one row. Cell values have the same types as {@link ExcelFile#getCellValue(int, int)} returns:
+ * String for text, Double for numerical types or formulas, Byte for error codes or Boolean.
+ * Instance can be reused by readers for the next row, use {@link #copy()} to keep values.
+ * Shared strings of streaming reader are decoded only when the value is requested.
+ */
+public class RowValues {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Placeholder of shared string which is not decoded yet, its index is kept in stringIndexes.
+     */
+    private static final Object SHARED_STRING = new Object();
+
+    private int rowNum;
+
+    private Object[] values;
+
+    private boolean[] dateFormatted;
+
+    private int size;
+
+    private boolean date1904;
+
+    private IntFunction<String> sharedStrings;
+
+    private int[] stringIndexes;
+
+    public RowValues() {
+        this(-1, DEFAULT_CAPACITY);
+    }
+
+    public RowValues(int rowNum, int capacity) {
+        this.rowNum = rowNum;
+        this.values = new Object[Math.max(capacity, 1)];
+        this.dateFormatted = new boolean[values.length];
+    }
+
+    /**
+     * Returns row index counted from zero.
+     *
+     * @return int value of row index.
+     */
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    /**
+     * Returns columns amount in the row, i.e. index of the last present cell plus one.
+     *
+     * @return int value of columns amount.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns raw cell value or null if cell is not present.
+     *
+     * @param column Integer column value counted from zero.
+     * @return cell value or null.
+     */
+    public Object getValue(int column) {
+        Object value = peek(column);
+        if (value == SHARED_STRING) {
+            value = sharedStrings.apply(stringIndexes[column]);
+            values[column] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns Optional value from particular cell of the row.
+     *
+     * @param column Integer column value counted from zero.
+     * @param <T> Cell value type, it can be String for text value, Double for numerical, Boolean for boolean value or Byte with error code.
+     * @return Optional with cell value.
+     */
+    public <T> Optional<T> getCellValue(int column) {
+        return Optional.ofNullable((T) getValue(column));
+    }
+
+    /**
+     * Returns cell value converted to String, empty string is returned if cell value is undefined.
+     *
+     * @param column Integer column value counted from zero.
+     * @return String value from the cell.
+     */
+    public String getCellValueString(int column) {
+        return getCellValueString(column, false);
+    }
+
+    /**
+     * Returns cell value converted to String, empty string is returned if cell value is undefined.
+     * Removes extra zeros after dot for numerical values.
+     *
+     * @param column Integer column value counted from zero.
+     * @param format boolean value. Apply local settings for number representation if it is true or use default dot otherwise.
+     * @return String value from the cell.
+     */
+    public String getCellValueString(int column, boolean format) {
+        return ConverterUtil.convertToString(getValue(column), format);
+    }
+
+    /**
+     * Returns Optional Double value if cell had a number. Optional is an empty if cell is not numerical.
+     *
+     * @param column Integer column value counted from zero.
+     * @return Optional Double value.
+     */
+    public Optional<Double> getCellValueDouble(int column) {
+        Object value = peek(column);
+        return value instanceof Double ? Optional.of((Double) value) : Optional.empty();
+    }
+
+    /**
+     * Returns Optional Boolean value if cell had a boolean. Optional is an empty if cell is not boolean.
+     *
+     * @param column Integer column value counted from zero.
+     * @return Optional Boolean value.
+     */
+    public Optional<Boolean> getCellValueBoolean(int column) {
+        Object value = peek(column);
+        return value instanceof Boolean ? Optional.of((Boolean) value) : Optional.empty();
+    }
+
+    /**
+     * Returns Optional Date value if cell had a number or date, number is converted into Date.
+     *
+     * @param column Integer column value counted from zero.
+     * @return Optional Date value.
+     */
+    public Optional<Date> getCellValueDate(int column) {
+        Object value = peek(column);
+        return value instanceof Double ? Optional.ofNullable(DateUtil.getJavaDate((Double) value, date1904)) : Optional.empty();
+    }
+
+    /**
+     * Returns Optional LocalDate value if cell had a not negative number or date, number is converted with workbook date system.
+     *
+     * @param column Integer column value counted from zero.
+     * @return Optional LocalDate value.
+     */
+    public Optional<LocalDate> getCellValueLocalDate(int column) {
+        Object value = peek(column);
+        return value instanceof Double && ExcelDateConverter.isValid((Double) value)
+                ? Optional.of(ExcelDateConverter.toLocalDate((Double) value, date1904)) : Optional.empty();
+    }
+
+    /**
+     * Returns Optional LocalDateTime value if cell had a not negative number or date, number is converted with workbook date system.
+     *
+     * @param column Integer column value counted from zero.
+     * @return Optional LocalDateTime value.
+     */
+    public Optional<LocalDateTime> getCellValueLocalDateTime(int column) {
+        Object value = peek(column);
+        return value instanceof Double && ExcelDateConverter.isValid((Double) value)
+                ? Optional.of(ExcelDateConverter.toLocalDateTime((Double) value, date1904)) : Optional.empty();
+    }
+
+    /**
+     * Returns true if cell has numerical value with date format, i.e. Excel shows it as date or time.
+     *
+     * @param column Integer column value counted from zero.
+     * @return boolean value.
+     */
+    public boolean isDateFormatted(int column) {
+        return column >= 0 && column < size && dateFormatted[column];
+    }
+
+    /**
+     * Returns true if values are read from workbook with 1904 date system.
+     *
+     * @return boolean value of workbook date system.
+     */
+    public boolean isDate1904() {
+        return date1904;
+    }
+
+    /**
+     * Sets date system of the workbook for date conversions, it is set by readers.
+     *
+     * @param date1904 true for 1904 date system.
+     */
+    public void setDate1904(boolean date1904) {
+        this.date1904 = date1904;
+    }
+
+    /**
+     * Returns row values as an array, missing cells are null.
+     *
+     * @return array with cell values.
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int column = 0; column < size; column++) {
+            array[column] = getValue(column);
+        }
+        return array;
+    }
+
+    /**
+     * Returns independent copy of the row values.
+     *
+     * @return RowValues copy.
+     */
+    public RowValues copy() {
+        RowValues copy = new RowValues(rowNum, size);
+        System.arraycopy(values, 0, copy.values, 0, size);
+        System.arraycopy(dateFormatted, 0, copy.dateFormatted, 0, size);
+        copy.size = size;
+        copy.date1904 = date1904;
+        copy.sharedStrings = sharedStrings;
+        if (stringIndexes != null) {
+            copy.stringIndexes = Arrays.copyOf(stringIndexes, size);
+        }
+        return copy;
+    }
+
+    /**
+     * Clears values and prepares instance for the next row.
+     *
+     * @param rowNum Integer value of row index counted from zero.
+     */
+    public void reset(int rowNum) {
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(dateFormatted, 0, size, false);
+        this.rowNum = rowNum;
+        this.size = 0;
+    }
+
+    /**
+     * Sets table used to decode shared strings, it is set by readers.
+     *
+     * @param sharedStrings function which returns string by its index.
+     */
+    public void setSharedStrings(IntFunction<String> sharedStrings) {
+        this.sharedStrings = sharedStrings;
+    }
+
+    /**
+     * Sets shared string with particular index as value of the cell. String is decoded on the first request of the value.
+     *
+     * @param column Integer column value counted from zero.
+     * @param index  Integer value of shared string index.
+     */
+    public void setSharedString(int column, int index) {
+        setValue(column, SHARED_STRING, false);
+        if (stringIndexes == null || stringIndexes.length < values.length) {
+            stringIndexes = stringIndexes == null ? new int[values.length] : Arrays.copyOf(stringIndexes, values.length);
+        }
+        stringIndexes[column] = index;
+    }
+
+    /**
+     * Sets value of particular cell.
+     *
+     * @param column Integer column value counted from zero.
+     * @param value  cell value.
+     */
+    public void setValue(int column, Object value) {
+        setValue(column, value, false);
+    }
+
+    /**
+     * Sets value of particular cell and marks numerical value with date format.
+     *
+     * @param column        Integer column value counted from zero.
+     * @param value         cell value.
+     * @param dateFormatted true if cell has date format.
+     */
+    public void setValue(int column, Object value, boolean dateFormatted) {
+        if (column >= values.length) {
+            values = Arrays.copyOf(values, Math.max(column + 1, values.length * 2));
+            this.dateFormatted = Arrays.copyOf(this.dateFormatted, values.length);
+        }
+        values[column] = value;
+        this.dateFormatted[column] = dateFormatted;
+        if (column >= size) {
+            size = column + 1;
+        }
+    }
+
+    private Object peek(int column) {
+        return column >= 0 && column < size ? values[column] : null;
+    }
+
+}
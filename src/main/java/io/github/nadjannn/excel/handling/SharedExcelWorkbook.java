@@ -0,0 +1,70 @@
+package io.github.nadjannn.excel.handling;
+
+/**
+ * Read-only workbook which can be shared between threads. Workbook is loaded once and every thread or task
+ * takes its own {@link SheetCursor} for sheet selection and cell access.
+ * Formula evaluator is not thread-safe, so formula evaluation mode of the file is switched off
+ * and cursors return cached formula results only.
+ */
+public class SharedExcelWorkbook implements AutoCloseable {
+
+    private final ExcelFileAbstract excelFile;
+
+    public SharedExcelWorkbook(ExcelFile excelFile) {
+        if (!(excelFile instanceof ExcelFileAbstract) || excelFile.getHandlingType() != HandlingType.READ) {
+            throw new ExcelHandlingException("Only file opened for reading can be shared");
+        }
+        this.excelFile = (ExcelFileAbstract) excelFile;
+        this.excelFile.share();
+    }
+
+    /**
+     * Returns a new cursor with loaded first sheet. Cursor must not be shared between threads.
+     *
+     * @return SheetCursor instance.
+     */
+    public SheetCursor cursor() {
+        return cursor(0);
+    }
+
+    /**
+     * Returns a new cursor with loaded sheet. Cursor must not be shared between threads.
+     *
+     * @param sheetIndex Integer number of sheet counted from zero.
+     * @return SheetCursor instance.
+     */
+    public SheetCursor cursor(int sheetIndex) {
+        SheetCursor cursor = new SheetCursor(excelFile);
+        cursor.loadSheet(sheetIndex);
+        return cursor;
+    }
+
+    /**
+     * Returns sheets amount from processing file.
+     *
+     * @return Integers value of sheets amount.
+     */
+    public int getSheetsAmount() {
+        return excelFile.getSheetsAmount();
+    }
+
+    /**
+     * Returns file name of shared file.
+     *
+     * @return String value of file name.
+     */
+    public String getFileName() {
+        return excelFile.getFileName();
+    }
+
+    /**
+     * Closes shared workbook. Cursors can not be used after closing.
+     *
+     * @throws ExcelClosingException throws ExcelClosingException in case of error.
+     */
+    @Override
+    public void close() throws ExcelClosingException {
+        excelFile.close();
+    }
+
+}
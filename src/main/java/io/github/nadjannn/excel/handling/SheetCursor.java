@@ -0,0 +1,104 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Lightweight reading cursor over shared workbook. Cursor keeps its own loaded sheet, so many cursors can read
+ * different sheets or rows of the same {@link SharedExcelWorkbook} at the same time. Cursor itself is not thread-safe.
+ */
+public class SheetCursor implements ExcelSheetReader {
+
+    private final ExcelFileAbstract excelFile;
+
+    private Sheet sheet;
+
+    private int sheetIndex;
+
+    SheetCursor(ExcelFileAbstract excelFile) {
+        this.excelFile = excelFile;
+    }
+
+    /**
+     * Loads sheet with particular index for this cursor only. Sheets counting starts from 0.
+     *
+     * @param sheetIndex Integer number for sheet loading.
+     */
+    public void loadSheet(int sheetIndex) {
+        try {
+            sheet = excelFile.getWorkbook().getSheetAt(sheetIndex);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not load sheet " + sheetIndex, e);
+        }
+        this.sheetIndex = sheetIndex;
+    }
+
+    /**
+     * Returns index of sheet loaded by this cursor, numeration is staring from zero
+     *
+     * @return int value of sheet index
+     */
+    public int getCurrentSheetIndex() {
+        return sheetIndex;
+    }
+
+    public int getNumberOfRows() {
+        return sheet.getPhysicalNumberOfRows();
+    }
+
+    public int getLastRowNum() {
+        return sheet.getLastRowNum();
+    }
+
+    public short getLastColumnNumber(int row) {
+        return getExcelRow(row).map(Row::getLastCellNum).orElse((short) 0);
+    }
+
+    public String getSheetName() {
+        return sheet.getSheetName();
+    }
+
+    public Optional<Row> getExcelRow(int row) {
+        return excelFile.getExcelRow(sheet, row, false);
+    }
+
+    public <T> Optional<T> getCellValue(int row, int column) {
+        return excelFile.getCell(sheet, row, column, false).map(cell -> (T) excelFile.getCellValue(cell));
+    }
+
+    public RowValues readRow(int row) {
+        return excelFile.readRow(sheet, row, new RowValues());
+    }
+
+    public RowValues readRow(int row, RowValues rowValues) {
+        return excelFile.readRow(sheet, row, rowValues);
+    }
+
+    public Stream<RowValues> rows() {
+        return rows(0, getLastRowNum() + 1);
+    }
+
+    public Stream<RowValues> rows(int from, int to) {
+        return excelFile.rows(sheet, from, to);
+    }
+
+    public SheetSnapshot snapshot() {
+        return excelFile.snapshot(sheet);
+    }
+
+    public SheetSnapshot snapshot(int from, int to) {
+        return excelFile.snapshot(sheet, from, to);
+    }
+
+    public RowCursor rowCursor() {
+        return new RowCursor(sheet, excelFile.isDate1904());
+    }
+
+    public boolean isDate1904() {
+        return excelFile.isDate1904();
+    }
+
+}
@@ -0,0 +1,307 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.CellType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only columnar copy of sheet values, decoded once with the same rules as {@link ExcelFile#getCellValue(int, int)}.
+ * Every column keeps cell types in byte array, numbers and error codes in double array, booleans in bitset
+ * and strings as indexes of one dictionary shared by all columns. Value arrays are created only for columns which have such values.
+ * Reading from snapshot does not allocate objects and snapshot can be shared between threads.
+ */
+public class SheetSnapshot {
+
+    private static final byte BLANK = 0;
+
+    private static final byte NUMERIC = 1;
+
+    private static final byte STRING = 2;
+
+    private static final byte BOOLEAN = 3;
+
+    private static final byte ERROR = 4;
+
+    private final int firstRowNum;
+
+    private final int rowsAmount;
+
+    private final byte[][] types;
+
+    private final double[][] numbers;
+
+    private final int[][] strings;
+
+    private final long[][] booleans;
+
+    private final Map<String, Integer> dictionaryIndexes = new HashMap<>();
+
+    private final List<String> dictionary = new ArrayList<>();
+
+    SheetSnapshot(int firstRowNum, int rowsAmount, int columnsAmount) {
+        this.firstRowNum = firstRowNum;
+        this.rowsAmount = rowsAmount;
+        this.types = new byte[columnsAmount][];
+        this.numbers = new double[columnsAmount][];
+        this.strings = new int[columnsAmount][];
+        this.booleans = new long[columnsAmount][];
+    }
+
+    /**
+     * Returns index of the first row in snapshot counted from zero.
+     *
+     * @return int value of the first row index.
+     */
+    public int getFirstRowNum() {
+        return firstRowNum;
+    }
+
+    /**
+     * Returns index of the last row in snapshot counted from zero.
+     *
+     * @return int value of the last row index.
+     */
+    public int getLastRowNum() {
+        return firstRowNum + rowsAmount - 1;
+    }
+
+    /**
+     * Returns columns amount, i.e. the biggest last cell number of rows in snapshot.
+     *
+     * @return int value of columns amount.
+     */
+    public int getColumnsAmount() {
+        return types.length;
+    }
+
+    /**
+     * Returns type of the cell value: BLANK for absent cells, NUMERIC for numbers and formulas, STRING, BOOLEAN or ERROR.
+     *
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @return CellType value.
+     */
+    public CellType getType(int row, int column) {
+        switch (type(row, column)) {
+            case NUMERIC:
+                return CellType.NUMERIC;
+            case STRING:
+                return CellType.STRING;
+            case BOOLEAN:
+                return CellType.BOOLEAN;
+            case ERROR:
+                return CellType.ERROR;
+            default:
+                return CellType.BLANK;
+        }
+    }
+
+    /**
+     * Returns true if the cell is absent, blank or is out of snapshot range.
+     *
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @return boolean value.
+     */
+    public boolean isBlank(int row, int column) {
+        return type(row, column) == BLANK;
+    }
+
+    /**
+     * Returns numerical cell value or default value for cells of other types.
+     *
+     * @param row          Integer value of row number counted from zero.
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not numerical cells.
+     * @return double value.
+     */
+    public double getDouble(int row, int column, double defaultValue) {
+        return type(row, column) == NUMERIC ? numbers[column][row - firstRowNum] : defaultValue;
+    }
+
+    /**
+     * Returns text cell value or null for cells of other types. The same instance is returned for equal strings.
+     *
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @return String value or null.
+     */
+    public String getString(int row, int column) {
+        int index = getStringIndex(row, column);
+        return index < 0 ? null : dictionary.get(index);
+    }
+
+    /**
+     * Returns index of text cell value in snapshot dictionary or -1 for cells of other types.
+     *
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @return int value of dictionary index.
+     */
+    public int getStringIndex(int row, int column) {
+        return type(row, column) == STRING ? strings[column][row - firstRowNum] : -1;
+    }
+
+    /**
+     * Returns boolean cell value or default value for cells of other types.
+     *
+     * @param row          Integer value of row number counted from zero.
+     * @param column       Integer value of column number counted from zero.
+     * @param defaultValue value for not boolean cells.
+     * @return boolean value.
+     */
+    public boolean getBoolean(int row, int column, boolean defaultValue) {
+        if (type(row, column) != BOOLEAN) {
+            return defaultValue;
+        }
+        int index = row - firstRowNum;
+        return (booleans[column][index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns error code of the cell or zero for cells of other types.
+     *
+     * @param row    Integer value of row number counted from zero.
+     * @param column Integer value of column number counted from zero.
+     * @return byte value of error code.
+     */
+    public byte getErrorCode(int row, int column) {
+        return type(row, column) == ERROR ? (byte) numbers[column][row - firstRowNum] : 0;
+    }
+
+    /**
+     * Returns dictionary size, i.e. amount of distinct strings in snapshot.
+     *
+     * @return int value of dictionary size.
+     */
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+
+    /**
+     * Returns string from snapshot dictionary.
+     *
+     * @param index Integer value of dictionary index.
+     * @return String value.
+     */
+    public String getDictionaryString(int index) {
+        return dictionary.get(index);
+    }
+
+    /**
+     * Returns index of the first row which has particular text in the column or -1 if there is no such row.
+     *
+     * @param column Integer value of column number counted from zero.
+     * @param value  String value for searching.
+     * @return int value of row number counted from zero or -1.
+     */
+    public int indexOf(int column, String value) {
+        Integer index = dictionaryIndexes.get(value);
+        if (index == null || column < 0 || column >= types.length || strings[column] == null) {
+            return -1;
+        }
+        byte[] columnTypes = types[column];
+        int[] columnStrings = strings[column];
+        for (int i = 0; i < rowsAmount; i++) {
+            if (columnTypes[i] == STRING && columnStrings[i] == index) {
+                return firstRowNum + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns index of the first row which has particular number in the column or -1 if there is no such row.
+     *
+     * @param column Integer value of column number counted from zero.
+     * @param value  double value for searching.
+     * @return int value of row number counted from zero or -1.
+     */
+    public int indexOf(int column, double value) {
+        if (column < 0 || column >= types.length || numbers[column] == null) {
+            return -1;
+        }
+        byte[] columnTypes = types[column];
+        double[] columnNumbers = numbers[column];
+        for (int i = 0; i < rowsAmount; i++) {
+            if (columnTypes[i] == NUMERIC && Double.compare(columnNumbers[i], value) == 0) {
+                return firstRowNum + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns approximate amount of memory used by snapshot arrays, dictionary strings are not counted.
+     *
+     * @return long value of bytes amount.
+     */
+    public long getSizeInBytes() {
+        long size = 0;
+        for (int column = 0; column < types.length; column++) {
+            size += types[column] == null ? 0 : types[column].length;
+            size += numbers[column] == null ? 0 : (long) numbers[column].length * Double.BYTES;
+            size += strings[column] == null ? 0 : (long) strings[column].length * Integer.BYTES;
+            size += booleans[column] == null ? 0 : (long) booleans[column].length * Long.BYTES;
+        }
+        return size;
+    }
+
+    /**
+     * Stores decoded cell value while snapshot is built.
+     */
+    void setValue(int row, int column, Object value) {
+        if (value == null) {
+            return;
+        }
+        int index = row - firstRowNum;
+        if (types[column] == null) {
+            types[column] = new byte[rowsAmount];
+        }
+        if (value instanceof Double) {
+            numbersOf(column)[index] = (Double) value;
+            types[column][index] = NUMERIC;
+        } else if (value instanceof String) {
+            if (strings[column] == null) {
+                strings[column] = new int[rowsAmount];
+            }
+            strings[column][index] = dictionaryIndexes.computeIfAbsent((String) value, this::addToDictionary);
+            types[column][index] = STRING;
+        } else if (value instanceof Boolean) {
+            if (booleans[column] == null) {
+                booleans[column] = new long[(rowsAmount + 63) >>> 6];
+            }
+            if ((Boolean) value) {
+                booleans[column][index >>> 6] |= 1L << index;
+            }
+            types[column][index] = BOOLEAN;
+        } else if (value instanceof Byte) {
+            numbersOf(column)[index] = (Byte) value;
+            types[column][index] = ERROR;
+        }
+    }
+
+    private double[] numbersOf(int column) {
+        if (numbers[column] == null) {
+            numbers[column] = new double[rowsAmount];
+        }
+        return numbers[column];
+    }
+
+    private Integer addToDictionary(String value) {
+        dictionary.add(value);
+        return dictionary.size() - 1;
+    }
+
+    private byte type(int row, int column) {
+        int index = row - firstRowNum;
+        if (index < 0 || index >= rowsAmount || column < 0 || column >= types.length || types[column] == null) {
+            return BLANK;
+        }
+        return types[column][index];
+    }
+
+}
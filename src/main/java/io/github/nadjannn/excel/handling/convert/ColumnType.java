@@ -0,0 +1,24 @@
+package io.github.nadjannn.excel.handling.convert;
+
+/**
+ * Type of imported column values. Values which can not be converted into column type are written as text.
+ */
+public enum ColumnType {
+
+    STRING,
+
+    NUMBER,
+
+    BOOLEAN,
+
+    /**
+     * Local date, it is written with date format.
+     */
+    DATE,
+
+    /**
+     * Local date-time, it is written with date-time format.
+     */
+    DATE_TIME
+
+}
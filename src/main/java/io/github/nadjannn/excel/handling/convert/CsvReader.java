@@ -0,0 +1,129 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental reader of delimited text. Quoted values can contain delimiters, line breaks and doubled quotes.
+ * Lines can be separated by "\n", "\r\n" or "\r". Only the current record is kept in memory.
+ */
+class CsvReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    private final char delimiter;
+
+    private final char quote;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private final StringBuilder field = new StringBuilder(64);
+
+    private final List<String> record = new ArrayList<>();
+
+    private int position;
+
+    private int limit;
+
+    private long lineNumber;
+
+    private long recordLineNumber;
+
+    CsvReader(Reader reader, char delimiter, char quote) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.quote = quote;
+    }
+
+    /**
+     * Returns number of the line where the last read record starts counted from one.
+     */
+    long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the next record, returned list is reused by the next call.
+     *
+     * @return values of the record or null at the end of text.
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        record.clear();
+        field.setLength(0);
+        lineNumber++;
+        recordLineNumber = lineNumber;
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("Quoted value of record at line " + recordLineNumber + " is not closed");
+                }
+                if (c == quote) {
+                    int next = read();
+                    if (next == quote) {
+                        field.append(quote);
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                record.add(field.toString());
+                return record;
+            } else if (c == delimiter) {
+                record.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == quote && field.length() == 0 && !afterQuote) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int amount = reader.read(buffer, 0, buffer.length);
+        if (amount <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = amount;
+        return true;
+    }
+
+}
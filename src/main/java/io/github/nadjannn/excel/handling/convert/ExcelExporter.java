@@ -0,0 +1,319 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import io.github.nadjannn.excel.handling.ConverterUtil;
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelDateConverter;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.ExcelStreamingReader;
+import io.github.nadjannn.excel.handling.RowValues;
+import org.apache.poi.ss.util.CellReference;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+/**
+ * Export of sheets into CSV, TSV or JSON Lines text. Sheets are read by streaming readers row by row and every row
+ * is written before the next one is read, so memory does not depend on workbook size. Values are converted into text
+ * as {@link ConverterUtil} converts them, numerical cells with date format are written as dates. Rows without cells are skipped,
+ * every row has values up to its last present cell.
+ */
+public class ExcelExporter {
+
+    private final ExportOptions options;
+
+    public ExcelExporter(ExportOptions options) {
+        if (options == null) {
+            throw new ExcelHandlingException("Export options have to be not null");
+        }
+        this.options = options;
+    }
+
+    /**
+     * Exports selected sheets of the file into the stream as UTF-8 text. Stream is flushed and is not closed.
+     *
+     * @param fileName     String value of xls or xlsx file name.
+     * @param outputStream stream for text.
+     * @return amount of written rows.
+     * @throws ExcelClosingException throws ExcelClosingException if the file could not be closed.
+     */
+    public long export(String fileName, OutputStream outputStream) throws ExcelClosingException {
+        if (outputStream == null) {
+            throw new ExcelHandlingException("Output stream has to be not null");
+        }
+        return export(fileName, new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Exports selected sheets of the file into the writer. Writer is flushed and is not closed.
+     *
+     * @param fileName String value of xls or xlsx file name.
+     * @param writer   writer for text.
+     * @return amount of written rows.
+     * @throws ExcelClosingException throws ExcelClosingException if the file could not be closed.
+     */
+    public long export(String fileName, Writer writer) throws ExcelClosingException {
+        try (ExcelStreamingReader reader = ExcelFileFactory.openStreamingReader(fileName)) {
+            return export(reader, writer);
+        }
+    }
+
+    /**
+     * Exports selected sheets of opened reader into the writer. Writer is flushed and is not closed.
+     *
+     * @param reader streaming reader.
+     * @param writer writer for text.
+     * @return amount of written rows.
+     */
+    public long export(ExcelStreamingReader reader, Writer writer) {
+        if (reader == null || writer == null) {
+            throw new ExcelHandlingException("Reader and writer have to be not null");
+        }
+        int[] sheets = options.getSheets();
+        if (sheets == null) {
+            sheets = new int[] {reader.getCurrentSheetIndex()};
+        }
+        RowWriter rowWriter = new RowWriter(writer);
+        for (int sheet : sheets) {
+            reader.loadSheet(sheet);
+            rowWriter.startSheet();
+            reader.readRows(rowWriter);
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new ExcelHandlingException("Could not write rows of file " + reader.getFileName(), e);
+        }
+        return rowWriter.rowsAmount;
+    }
+
+    /**
+     * Writes rows of all sheets, the same line buffers are used for all rows.
+     */
+    private class RowWriter implements Consumer<RowValues> {
+
+        private final Writer writer;
+
+        private final StringBuilder line = new StringBuilder(256);
+
+        private final StringBuilder field = new StringBuilder(64);
+
+        private char[] chars = new char[256];
+
+        private String[] headerKeys;
+
+        private boolean headerExpected;
+
+        private long rowsAmount;
+
+        private RowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        private void startSheet() {
+            headerKeys = null;
+            headerExpected = options.isHeader();
+        }
+
+        @Override
+        public void accept(RowValues row) {
+            boolean header = headerExpected;
+            headerExpected = false;
+            line.setLength(0);
+            if (options.getFormat() == ExportFormat.DELIMITED) {
+                appendDelimited(row);
+            } else if (header) {
+                // Header of JSON Lines gives keys and is not written.
+                headerKeys = readHeaderKeys(row);
+                return;
+            } else if (headerKeys != null) {
+                appendJsonObject(row);
+            } else {
+                appendJsonArray(row);
+            }
+            line.append(options.getLineSeparator());
+            write();
+            rowsAmount++;
+        }
+
+        private void appendDelimited(RowValues row) {
+            for (int column = 0; column < row.size(); column++) {
+                if (column > 0) {
+                    line.append(options.getDelimiter());
+                }
+                Object value = row.getValue(column);
+                if (value != null) {
+                    field.setLength(0);
+                    appendValue(field, row, column, options.isFormattedNumbers());
+                    appendQuoted(field);
+                }
+            }
+        }
+
+        private void appendQuoted(CharSequence text) {
+            if (!isQuotingRequired(text)) {
+                line.append(text);
+                return;
+            }
+            char quote = options.getQuote();
+            line.append(quote);
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == quote) {
+                    line.append(quote);
+                }
+                line.append(c);
+            }
+            line.append(quote);
+        }
+
+        private boolean isQuotingRequired(CharSequence text) {
+            switch (options.getQuoting()) {
+                case ALL:
+                    return true;
+                case NONE:
+                    return false;
+                default:
+                    for (int i = 0; i < text.length(); i++) {
+                        char c = text.charAt(i);
+                        if (c == options.getDelimiter() || c == options.getQuote() || c == '\n' || c == '\r') {
+                            return true;
+                        }
+                    }
+                    return false;
+            }
+        }
+
+        private String[] readHeaderKeys(RowValues row) {
+            String[] keys = new String[row.size()];
+            for (int column = 0; column < keys.length; column++) {
+                keys[column] = row.getCellValueString(column);
+            }
+            return keys;
+        }
+
+        private void appendJsonArray(RowValues row) {
+            line.append('[');
+            for (int column = 0; column < row.size(); column++) {
+                if (column > 0) {
+                    line.append(',');
+                }
+                appendJsonValue(row, column);
+            }
+            line.append(']');
+        }
+
+        /**
+         * Absent cells are not written, columns without header value get keys by column letters.
+         */
+        private void appendJsonObject(RowValues row) {
+            line.append('{');
+            boolean first = true;
+            for (int column = 0; column < row.size(); column++) {
+                if (row.getValue(column) == null) {
+                    continue;
+                }
+                if (!first) {
+                    line.append(',');
+                }
+                first = false;
+                String key = column < headerKeys.length && !headerKeys[column].isEmpty()
+                        ? headerKeys[column] : CellReference.convertNumToColString(column);
+                appendJsonString(key);
+                line.append(':');
+                appendJsonValue(row, column);
+            }
+            line.append('}');
+        }
+
+        private void appendJsonValue(RowValues row, int column) {
+            Object value = row.getValue(column);
+            if (value == null) {
+                line.append("null");
+            } else if (value instanceof String || isDate(row, column)) {
+                field.setLength(0);
+                appendValue(field, row, column, false);
+                appendJsonString(field);
+            } else {
+                // JSON numbers always have dot, booleans are written as literals.
+                ConverterUtil.appendString(line, value, false);
+            }
+        }
+
+        private void appendJsonString(CharSequence text) {
+            line.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '"':
+                        line.append("\\\"");
+                        break;
+                    case '\\':
+                        line.append("\\\\");
+                        break;
+                    case '\n':
+                        line.append("\\n");
+                        break;
+                    case '\r':
+                        line.append("\\r");
+                        break;
+                    case '\t':
+                        line.append("\\t");
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            line.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            line.append(c);
+                        }
+                        break;
+                }
+            }
+            line.append('"');
+        }
+
+        private void appendValue(StringBuilder builder, RowValues row, int column, boolean formattedNumbers) {
+            if (!isDate(row, column)) {
+                ConverterUtil.appendString(builder, row.getValue(column), formattedNumbers);
+                return;
+            }
+            double serial = (Double) row.getValue(column);
+            DateTimeFormatter formatter = options.getDateFormatter();
+            if (formatter != null) {
+                formatter.formatTo(ExcelDateConverter.toLocalDateTime(serial, row.isDate1904()), builder);
+            } else if (serial == Math.rint(serial)) {
+                DateTimeFormatter.ISO_LOCAL_DATE.formatTo(ExcelDateConverter.toLocalDate(serial, row.isDate1904()), builder);
+            } else {
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(ExcelDateConverter.toLocalDateTime(serial, row.isDate1904()), builder);
+            }
+        }
+
+        private boolean isDate(RowValues row, int column) {
+            return options.isDates() && row.isDateFormatted(column) && ExcelDateConverter.isValid((Double) row.getValue(column));
+        }
+
+        /**
+         * Line is copied into reusable array, so no String is created for it.
+         */
+        private void write() {
+            int length = line.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            line.getChars(0, length, chars, 0);
+            try {
+                writer.write(chars, 0, length);
+            } catch (IOException e) {
+                throw new ExcelHandlingException("Could not write row", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,376 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Import of delimited text into xlsx file. Text is read line by line and rows are written by streaming writer,
+ * so only sample lines for types inference and the row window of the writer are kept in memory.
+ * Dates are written with cached date styles. New sheet is added when rows limit of the sheet is reached.
+ */
+public class ExcelImporter {
+
+    /**
+     * Decimal digits which Double keeps without loss.
+     */
+    private static final int MAX_SIGNIFICANT_DIGITS = 15;
+
+    private static final String XSSF_EXTENSION = ".xlsx";
+
+    private final ImportOptions options;
+
+    public ExcelImporter(ImportOptions options) {
+        if (options == null) {
+            throw new ExcelHandlingException("Import options have to be not null");
+        }
+        this.options = options;
+    }
+
+    /**
+     * Imports UTF-8 text file into xlsx file.
+     *
+     * @param textFile path of delimited text file.
+     * @param fileName String value of xlsx file name.
+     * @return amount of imported rows without headers.
+     * @throws ExcelClosingException throws ExcelClosingException if xlsx file could not be saved.
+     */
+    public long importCsv(Path textFile, String fileName) throws ExcelClosingException {
+        try (Reader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            return importCsv(reader, fileName);
+        } catch (IOException e) {
+            throw new ExcelHandlingException("Could not read file " + textFile, e);
+        }
+    }
+
+    /**
+     * Imports UTF-8 text from the stream into xlsx file. Stream is not closed.
+     *
+     * @param inputStream stream with delimited text.
+     * @param fileName    String value of xlsx file name.
+     * @return amount of imported rows without headers.
+     * @throws ExcelClosingException throws ExcelClosingException if xlsx file could not be saved.
+     */
+    public long importCsv(InputStream inputStream, String fileName) throws ExcelClosingException {
+        if (inputStream == null) {
+            throw new ExcelHandlingException("Input stream has to be not null");
+        }
+        return importCsv(new InputStreamReader(inputStream, StandardCharsets.UTF_8), fileName);
+    }
+
+    /**
+     * Imports text from the reader into xlsx file. Reader is not closed. Rows are written into temporary file
+     * in the same directory which replaces the file only when the whole text is imported,
+     * so the file is not changed if text can not be read.
+     *
+     * @param reader   reader of delimited text.
+     * @param fileName String value of xlsx file name.
+     * @return amount of imported rows without headers.
+     * @throws ExcelClosingException throws ExcelClosingException if xlsx file could not be saved.
+     */
+    public long importCsv(Reader reader, String fileName) throws ExcelClosingException {
+        if (reader == null) {
+            throw new ExcelHandlingException("Reader has to be not null");
+        }
+        if (fileName == null || !fileName.endsWith(XSSF_EXTENSION)) {
+            throw new ExcelHandlingException("Only xlsx file can be imported " + fileName);
+        }
+        CsvReader csvReader = new CsvReader(reader, options.getDelimiter(), options.getQuote());
+        Path path = Paths.get(fileName).toAbsolutePath();
+        Path tempFile = createTempFile(path);
+        try {
+            long rowsAmount;
+            try (ExcelFile excelFile = ExcelFileFactory.openStreamingWriter(tempFile.toString(), options.getRowWindowSize())) {
+                rowsAmount = new SheetsWriter(excelFile).write(csvReader);
+            } catch (IOException e) {
+                throw new ExcelHandlingException("Could not read record at line " + csvReader.getRecordLineNumber() + " for file " + fileName, e);
+            }
+            moveAtomically(tempFile, path);
+            return rowsAmount;
+        } catch (RuntimeException | ExcelClosingException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    private static Path createTempFile(Path path) {
+        try {
+            return Files.createTempFile(path.getParent(), "." + path.getFileName() + ".", XSSF_EXTENSION);
+        } catch (IOException e) {
+            throw new ExcelHandlingException("Could not create temporary file for " + path, e);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) {
+        try {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new ExcelHandlingException("Could not save file " + target, e);
+        }
+    }
+
+    /**
+     * Returns type which all not empty values satisfy, text type is returned for column without values.
+     */
+    ColumnType inferType(List<String[]> sample, int column) {
+        boolean number = true;
+        boolean bool = true;
+        boolean date = true;
+        boolean dateTime = true;
+        boolean present = false;
+        for (String[] values : sample) {
+            String text = column < values.length ? values[column] : "";
+            if (text.isEmpty()) {
+                continue;
+            }
+            present = true;
+            number = number && isNumber(text);
+            bool = bool && isBoolean(text);
+            date = date && parseDate(text) != null;
+            dateTime = dateTime && parseDateTime(text) != null;
+        }
+        if (!present) {
+            return ColumnType.STRING;
+        } else if (number) {
+            return ColumnType.NUMBER;
+        } else if (bool) {
+            return ColumnType.BOOLEAN;
+        } else if (date) {
+            return ColumnType.DATE;
+        } else if (dateTime) {
+            return ColumnType.DATE_TIME;
+        }
+        return ColumnType.STRING;
+    }
+
+    /**
+     * Converts text into value of column type, text is returned if it can not be converted.
+     */
+    Object convert(String text, ColumnType type) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        switch (type) {
+            case NUMBER:
+                return isNumber(text) ? (Object) Double.valueOf(text) : text;
+            case BOOLEAN:
+                return isBoolean(text) ? (Object) Boolean.valueOf(text) : text;
+            case DATE:
+                LocalDate date = parseDate(text);
+                return date == null ? text : date;
+            case DATE_TIME:
+                LocalDateTime dateTime = parseDateTime(text);
+                return dateTime == null ? text : dateTime;
+            default:
+                return text;
+        }
+    }
+
+    /**
+     * Returns true for decimal numbers with optional exponent. Integers with leading zeros are codes, not numbers.
+     * Numbers with more than 15 significant digits, like identifiers or card numbers, can not be kept by Double
+     * without loss, so they are not numbers as well as values out of Double range.
+     */
+    static boolean isNumber(String text) {
+        int length = text.length();
+        int i = text.charAt(0) == '-' || text.charAt(0) == '+' ? 1 : 0;
+        int integerStart = i;
+        int significantStart = -1;
+        while (i < length && isDigit(text.charAt(i))) {
+            if (significantStart < 0 && text.charAt(i) != '0') {
+                significantStart = i;
+            }
+            i++;
+        }
+        int digits = i - integerStart;
+        if (digits > 1 && text.charAt(integerStart) == '0') {
+            return false;
+        }
+        int significantDigits = significantStart < 0 ? 0 : i - significantStart;
+        if (i < length && text.charAt(i) == '.') {
+            int fractionStart = ++i;
+            while (i < length && isDigit(text.charAt(i))) {
+                if (significantDigits > 0 || text.charAt(i) != '0') {
+                    significantDigits++;
+                }
+                i++;
+            }
+            digits += i - fractionStart;
+        }
+        if (digits == 0 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+            return false;
+        }
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            while (i < length && isDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i == exponentStart || i != length) {
+                return false;
+            }
+            // Exponent can move value out of Double range, it becomes infinity or zero then.
+            double value = Double.parseDouble(text);
+            return !Double.isInfinite(value) && (value != 0.0D || significantDigits == 0);
+        }
+        return i == length;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBoolean(String text) {
+        return "true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text);
+    }
+
+    private LocalDate parseDate(String text) {
+        return parse(text, options.getDateFormatter(), true);
+    }
+
+    private LocalDateTime parseDateTime(String text) {
+        return parse(text, options.getDateTimeFormatter(), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T parse(String text, DateTimeFormatter formatter, boolean date) {
+        // Dates always start with a digit, so exceptions are not thrown for the most of texts.
+        if (!Character.isDigit(text.charAt(0))) {
+            return null;
+        }
+        try {
+            return (T) (date ? LocalDate.parse(text, formatter) : LocalDateTime.parse(text, formatter));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes rows into sheets of one file, header is repeated at the top of every sheet.
+     */
+    private class SheetsWriter {
+
+        private final ExcelFile excelFile;
+
+        private Object[] header;
+
+        private ColumnType[] types;
+
+        private Object[] values = new Object[16];
+
+        private int rowNum;
+
+        private long rowsAmount;
+
+        private SheetsWriter(ExcelFile excelFile) {
+            this.excelFile = excelFile;
+        }
+
+        private long write(CsvReader csvReader) throws IOException {
+            if (options.isHeader()) {
+                List<String> record = csvReader.readRecord();
+                if (record == null) {
+                    return 0;
+                }
+                header = record.toArray();
+                writeHeader();
+            }
+            types = options.getColumnTypes();
+            if (types == null) {
+                List<String[]> sample = new ArrayList<>();
+                List<String> record;
+                while (sample.size() < options.getSampleSize() && (record = csvReader.readRecord()) != null) {
+                    if (!isBlank(record)) {
+                        sample.add(record.toArray(new String[0]));
+                    }
+                }
+                inferTypes(sample);
+                for (String[] values : sample) {
+                    writeRecord(Arrays.asList(values));
+                }
+            }
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                if (!isBlank(record)) {
+                    writeRecord(record);
+                }
+            }
+            return rowsAmount;
+        }
+
+        private void inferTypes(List<String[]> sample) {
+            int columnsAmount = header == null ? 0 : header.length;
+            for (String[] values : sample) {
+                columnsAmount = Math.max(columnsAmount, values.length);
+            }
+            types = new ColumnType[columnsAmount];
+            for (int column = 0; column < columnsAmount; column++) {
+                types[column] = inferType(sample, column);
+            }
+        }
+
+        private void writeRecord(List<String> record) {
+            if (rowNum == options.getRowsPerSheet()) {
+                excelFile.addAndLoadSheet();
+                rowNum = 0;
+                writeHeader();
+            }
+            int size = record.size();
+            if (values.length < size) {
+                values = new Object[Math.max(size, values.length * 2)];
+            }
+            for (int column = 0; column < values.length; column++) {
+                if (column < size) {
+                    ColumnType type = column < types.length ? types[column] : ColumnType.STRING;
+                    values[column] = convert(record.get(column), type == null ? ColumnType.STRING : type);
+                } else {
+                    values[column] = null;
+                }
+            }
+            excelFile.writeRow(rowNum++, values);
+            rowsAmount++;
+        }
+
+        private void writeHeader() {
+            if (header != null) {
+                excelFile.writeRow(rowNum++, header);
+            }
+        }
+
+        private boolean isBlank(List<String> record) {
+            return record.size() == 1 && record.get(0).isEmpty();
+        }
+
+    }
+
+}
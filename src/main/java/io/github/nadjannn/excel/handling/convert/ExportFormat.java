@@ -0,0 +1,18 @@
+package io.github.nadjannn.excel.handling.convert;
+
+/**
+ * Text format of exported rows.
+ */
+public enum ExportFormat {
+
+    /**
+     * Values separated by delimiter, for example, CSV or TSV.
+     */
+    DELIMITED,
+
+    /**
+     * One JSON array or object per row.
+     */
+    JSON_LINES
+
+}
@@ -0,0 +1,237 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Immutable settings of export into text. Instances are created by {@link #csv()}, {@link #tsv()} or {@link #jsonLines()}
+ * and are changed by "with" methods which return new instances.
+ */
+public final class ExportOptions {
+
+    private final ExportFormat format;
+
+    private char delimiter;
+
+    private char quote = '"';
+
+    private Quoting quoting = Quoting.MINIMAL;
+
+    private String lineSeparator = "\n";
+
+    private boolean formattedNumbers;
+
+    private boolean dates = true;
+
+    private DateTimeFormatter dateFormatter;
+
+    private int[] sheets;
+
+    private boolean header;
+
+    private ExportOptions(ExportFormat format, char delimiter) {
+        this.format = format;
+        this.delimiter = delimiter;
+    }
+
+    private ExportOptions(ExportOptions options) {
+        this.format = options.format;
+        this.delimiter = options.delimiter;
+        this.quote = options.quote;
+        this.quoting = options.quoting;
+        this.lineSeparator = options.lineSeparator;
+        this.formattedNumbers = options.formattedNumbers;
+        this.dates = options.dates;
+        this.dateFormatter = options.dateFormatter;
+        this.sheets = options.sheets;
+        this.header = options.header;
+    }
+
+    /**
+     * Returns options of comma separated values with minimal quoting.
+     *
+     * @return ExportOptions instance.
+     */
+    public static ExportOptions csv() {
+        return new ExportOptions(ExportFormat.DELIMITED, ',');
+    }
+
+    /**
+     * Returns options of tab separated values with minimal quoting.
+     *
+     * @return ExportOptions instance.
+     */
+    public static ExportOptions tsv() {
+        return new ExportOptions(ExportFormat.DELIMITED, '\t');
+    }
+
+    /**
+     * Returns options of JSON Lines, every row is written as JSON array.
+     *
+     * @return ExportOptions instance.
+     */
+    public static ExportOptions jsonLines() {
+        return new ExportOptions(ExportFormat.JSON_LINES, ',');
+    }
+
+    /**
+     * Returns options with particular delimiter of values, it is used for delimited format only.
+     *
+     * @param delimiter char value of delimiter.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withDelimiter(char delimiter) {
+        ExportOptions options = new ExportOptions(this);
+        options.delimiter = delimiter;
+        return options;
+    }
+
+    /**
+     * Returns options with particular quote character, quote inside of value is doubled.
+     *
+     * @param quote char value of quote.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withQuote(char quote) {
+        ExportOptions options = new ExportOptions(this);
+        options.quote = quote;
+        return options;
+    }
+
+    /**
+     * Returns options with particular quoting of delimited values.
+     *
+     * @param quoting Quoting value.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withQuoting(Quoting quoting) {
+        if (quoting == null) {
+            throw new ExcelHandlingException("Quoting has to be not null");
+        }
+        ExportOptions options = new ExportOptions(this);
+        options.quoting = quoting;
+        return options;
+    }
+
+    /**
+     * Returns options with particular line separator, "\n" is used by default.
+     *
+     * @param lineSeparator String value of line separator.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withLineSeparator(String lineSeparator) {
+        if (lineSeparator == null || lineSeparator.isEmpty()) {
+            throw new ExcelHandlingException("Line separator has to be not empty");
+        }
+        ExportOptions options = new ExportOptions(this);
+        options.lineSeparator = lineSeparator;
+        return options;
+    }
+
+    /**
+     * Returns options with numbers formatted by local settings as {@link io.github.nadjannn.excel.handling.ConverterUtil}
+     * formats them. It is used for delimited format only, JSON numbers always have dot.
+     *
+     * @param formattedNumbers boolean value, local settings are applied if it is true.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withFormattedNumbers(boolean formattedNumbers) {
+        ExportOptions options = new ExportOptions(this);
+        options.formattedNumbers = formattedNumbers;
+        return options;
+    }
+
+    /**
+     * Returns options with conversion of numerical cells with date format into dates. Whole numbers are written
+     * as ISO dates and other numbers as ISO date-times by default. Dates are converted by default.
+     *
+     * @param dates boolean value, dates are converted if it is true or are written as numbers otherwise.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withDates(boolean dates) {
+        ExportOptions options = new ExportOptions(this);
+        options.dates = dates;
+        return options;
+    }
+
+    /**
+     * Returns options with formatter for all date cells, it formats local date-time.
+     *
+     * @param dateFormatter DateTimeFormatter instance or null for ISO dates.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withDateFormatter(DateTimeFormatter dateFormatter) {
+        ExportOptions options = new ExportOptions(this);
+        options.dates = true;
+        options.dateFormatter = dateFormatter;
+        return options;
+    }
+
+    /**
+     * Returns options with sheets for export, rows of sheets are written one after another.
+     * Current sheet of the reader is exported by default.
+     *
+     * @param sheets indexes of sheets counted from zero.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withSheets(int... sheets) {
+        ExportOptions options = new ExportOptions(this);
+        options.sheets = sheets == null || sheets.length == 0 ? null : sheets.clone();
+        return options;
+    }
+
+    /**
+     * Returns options where the first row of every sheet is header. Header is written as is in delimited format,
+     * JSON Lines rows are written as objects with header values as keys and header itself is not written.
+     *
+     * @param header boolean value, the first row is header if it is true.
+     * @return ExportOptions instance.
+     */
+    public ExportOptions withHeader(boolean header) {
+        ExportOptions options = new ExportOptions(this);
+        options.header = header;
+        return options;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    public char getQuote() {
+        return quote;
+    }
+
+    public Quoting getQuoting() {
+        return quoting;
+    }
+
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    public boolean isFormattedNumbers() {
+        return formattedNumbers;
+    }
+
+    public boolean isDates() {
+        return dates;
+    }
+
+    public DateTimeFormatter getDateFormatter() {
+        return dateFormatter;
+    }
+
+    public int[] getSheets() {
+        return sheets == null ? null : sheets.clone();
+    }
+
+    public boolean isHeader() {
+        return header;
+    }
+
+}
@@ -0,0 +1,221 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.xssf.SXSSFExcelFile;
+import org.apache.poi.ss.SpreadsheetVersion;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Immutable settings of import from delimited text. Instances are created by {@link #csv()} or {@link #tsv()}
+ * and are changed by "with" methods which return new instances.
+ */
+public final class ImportOptions {
+
+    /**
+     * Rows limit of xlsx sheet.
+     */
+    public static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    private char delimiter;
+
+    private char quote = '"';
+
+    private boolean header;
+
+    private ColumnType[] columnTypes;
+
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+    private DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private int rowsPerSheet = MAX_ROWS_PER_SHEET;
+
+    private int rowWindowSize = SXSSFExcelFile.DEFAULT_ROW_WINDOW_SIZE;
+
+    private ImportOptions(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    private ImportOptions(ImportOptions options) {
+        this.delimiter = options.delimiter;
+        this.quote = options.quote;
+        this.header = options.header;
+        this.columnTypes = options.columnTypes;
+        this.sampleSize = options.sampleSize;
+        this.dateFormatter = options.dateFormatter;
+        this.dateTimeFormatter = options.dateTimeFormatter;
+        this.rowsPerSheet = options.rowsPerSheet;
+        this.rowWindowSize = options.rowWindowSize;
+    }
+
+    /**
+     * Returns options of comma separated values.
+     *
+     * @return ImportOptions instance.
+     */
+    public static ImportOptions csv() {
+        return new ImportOptions(',');
+    }
+
+    /**
+     * Returns options of tab separated values.
+     *
+     * @return ImportOptions instance.
+     */
+    public static ImportOptions tsv() {
+        return new ImportOptions('\t');
+    }
+
+    /**
+     * Returns options with particular delimiter of values.
+     *
+     * @param delimiter char value of delimiter.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withDelimiter(char delimiter) {
+        ImportOptions options = new ImportOptions(this);
+        options.delimiter = delimiter;
+        return options;
+    }
+
+    /**
+     * Returns options with particular quote character.
+     *
+     * @param quote char value of quote.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withQuote(char quote) {
+        ImportOptions options = new ImportOptions(this);
+        options.quote = quote;
+        return options;
+    }
+
+    /**
+     * Returns options where the first line is header. Header is written as text at the top of every sheet
+     * and is not used for types inference.
+     *
+     * @param header boolean value, the first line is header if it is true.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withHeader(boolean header) {
+        ImportOptions options = new ImportOptions(this);
+        options.header = header;
+        return options;
+    }
+
+    /**
+     * Returns options with explicit types of columns, types are not inferred then. Columns without type are text.
+     *
+     * @param columnTypes types by column index.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withColumnTypes(ColumnType... columnTypes) {
+        ImportOptions options = new ImportOptions(this);
+        options.columnTypes = columnTypes == null || columnTypes.length == 0 ? null : columnTypes.clone();
+        return options;
+    }
+
+    /**
+     * Returns options with amount of lines which are read ahead for types inference.
+     *
+     * @param sampleSize positive amount of lines.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withSampleSize(int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new ExcelHandlingException("Sample size has to be positive");
+        }
+        ImportOptions options = new ImportOptions(this);
+        options.sampleSize = sampleSize;
+        return options;
+    }
+
+    /**
+     * Returns options with formatters for parsing of date and date-time values, ISO formats are used by default.
+     *
+     * @param dateFormatter     DateTimeFormatter for dates.
+     * @param dateTimeFormatter DateTimeFormatter for date-times.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withDateFormatters(DateTimeFormatter dateFormatter, DateTimeFormatter dateTimeFormatter) {
+        if (dateFormatter == null || dateTimeFormatter == null) {
+            throw new ExcelHandlingException("Date formatters have to be not null");
+        }
+        ImportOptions options = new ImportOptions(this);
+        options.dateFormatter = dateFormatter;
+        options.dateTimeFormatter = dateTimeFormatter;
+        return options;
+    }
+
+    /**
+     * Returns options with rows limit of one sheet including header, new sheet is added when the limit is reached.
+     *
+     * @param rowsPerSheet amount of rows, it can not be bigger than {@link #MAX_ROWS_PER_SHEET}.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withRowsPerSheet(int rowsPerSheet) {
+        if (rowsPerSheet < 2 || rowsPerSheet > MAX_ROWS_PER_SHEET) {
+            throw new ExcelHandlingException("Rows per sheet have to be from 2 to " + MAX_ROWS_PER_SHEET);
+        }
+        ImportOptions options = new ImportOptions(this);
+        options.rowsPerSheet = rowsPerSheet;
+        return options;
+    }
+
+    /**
+     * Returns options with amount of rows which streaming writer keeps in memory.
+     *
+     * @param rowWindowSize positive amount of rows.
+     * @return ImportOptions instance.
+     */
+    public ImportOptions withRowWindowSize(int rowWindowSize) {
+        if (rowWindowSize <= 0) {
+            throw new ExcelHandlingException("Row window size has to be positive");
+        }
+        ImportOptions options = new ImportOptions(this);
+        options.rowWindowSize = rowWindowSize;
+        return options;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    public char getQuote() {
+        return quote;
+    }
+
+    public boolean isHeader() {
+        return header;
+    }
+
+    public ColumnType[] getColumnTypes() {
+        return columnTypes == null ? null : columnTypes.clone();
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public DateTimeFormatter getDateFormatter() {
+        return dateFormatter;
+    }
+
+    public DateTimeFormatter getDateTimeFormatter() {
+        return dateTimeFormatter;
+    }
+
+    public int getRowsPerSheet() {
+        return rowsPerSheet;
+    }
+
+    public int getRowWindowSize() {
+        return rowWindowSize;
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.nadjannn.excel.handling.convert;
+
+/**
+ * Quoting of values in delimited text.
+ */
+public enum Quoting {
+
+    /**
+     * Only values with delimiter, quote or line breaks are quoted.
+     */
+    MINIMAL,
+
+    /**
+     * All present values are quoted.
+     */
+    ALL,
+
+    /**
+     * Values are never quoted.
+     */
+    NONE
+
+}
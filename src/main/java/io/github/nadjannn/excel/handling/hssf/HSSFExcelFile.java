@@ -9,9 +9,12 @@ import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.DataValidationHelper;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.util.IOUtils;
 
-import java.io.FileInputStream;
+import java.io.File;
+import java.io.InputStream;
 
 /**
  * Excel file implementation for type "Excel 97-2004 Workbook (.xls)".
@@ -24,20 +27,49 @@ public class HSSFExcelFile extends ExcelFileAbstract implements ExcelFile {
         super(fileName, handlingType);
     }
 
+    /**
+     * Creates in-memory file for writing, use {@link #writeTo(java.io.OutputStream)} to get its content.
+     */
+    public HSSFExcelFile() {
+        super(new HSSFWorkbook(), HandlingType.WRITE);
+    }
+
+    /**
+     * Creates in-memory file for reading from the stream. Stream is read fully and is not closed.
+     */
+    public HSSFExcelFile(InputStream inputStream) {
+        super(inputStream);
+    }
+
+    /**
+     * File system is opened directly from the file in read-only mode, so it is memory mapped instead of buffered.
+     * It is closed together with the workbook.
+     */
     protected Workbook loadWorkbook() {
+        POIFSFileSystem poiFileSystem = null;
         try {
-            POIFSFileSystem poiFileSystem = new POIFSFileSystem(new FileInputStream(fileName));
+            poiFileSystem = new POIFSFileSystem(new File(fileName), true);
             return new HSSFWorkbook(poiFileSystem);
         } catch (Exception e) {
+            IOUtils.closeQuietly(poiFileSystem);
             throw new ExcelHandlingException("Could not open file for reading " + fileName, e);
         }
     }
 
+    @Override
+    protected Workbook readWorkbook(InputStream inputStream) {
+        try {
+            return new HSSFWorkbook(inputStream);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not read workbook from stream", e);
+        }
+    }
+
     protected Workbook createWorkbook() {
         return new HSSFWorkbook();
     }
 
-    protected DataValidationHelper createDataValidationHelper() {
+    protected DataValidationHelper createDataValidationHelper(Sheet sheet) {
         return new HSSFDataValidationHelper((HSSFSheet) sheet);
     }
 
@@ -0,0 +1,160 @@
+package io.github.nadjannn.excel.handling.hssf;
+
+import io.github.nadjannn.excel.handling.RowValues;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.ExtendedFormatRecord;
+import org.apache.poi.hssf.record.FormatRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.RKRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Listener for record stream which decodes cells of one sheet into the same value types as ExcelFile.getCellValue returns.
+ * Only current row is kept in memory, processing is aborted when the sheet is over.
+ */
+class HSSFSheetRowsListener extends AbortableHSSFListener {
+
+    private static final short CONTINUE = 0;
+
+    private static final short ABORT = 1;
+
+    private final int sheetIndex;
+
+    private final Consumer<RowValues> consumer;
+
+    private final RowValues rowValues = new RowValues();
+
+    /**
+     * Custom number formats by format index, they are defined in workbook globals.
+     */
+    private final Map<Integer, String> formats = new HashMap<>();
+
+    /**
+     * Format indexes of extended formats in order, cell refers to extended format by its position.
+     */
+    private final List<Integer> formatIndexes = new ArrayList<>();
+
+    private SSTRecord sharedStrings;
+
+    private boolean[] dateStyles;
+
+    private int depth;
+
+    private int currentSheetIndex = -1;
+
+    private int rowsAmount;
+
+    HSSFSheetRowsListener(int sheetIndex, boolean date1904, Consumer<RowValues> consumer) {
+        this.sheetIndex = sheetIndex;
+        this.consumer = consumer;
+        rowValues.setDate1904(date1904);
+    }
+
+    int getRowsAmount() {
+        return rowsAmount;
+    }
+
+    @Override
+    public short abortableProcessRecord(Record record) {
+        if (record instanceof BOFRecord) {
+            depth++;
+            if (depth == 1 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                if (dateStyles == null) {
+                    dateStyles = readDateStyles();
+                }
+                currentSheetIndex++;
+                rowValues.reset(-1);
+            }
+        } else if (record instanceof EOFRecord) {
+            depth--;
+            if (depth == 0 && currentSheetIndex == sheetIndex) {
+                deliverRow();
+                return ABORT;
+            }
+        } else if (record instanceof SSTRecord) {
+            sharedStrings = (SSTRecord) record;
+        } else if (record instanceof FormatRecord) {
+            FormatRecord format = (FormatRecord) record;
+            formats.put(format.getIndexCode(), format.getFormatString());
+        } else if (record instanceof ExtendedFormatRecord) {
+            formatIndexes.add((int) ((ExtendedFormatRecord) record).getFormatIndex());
+        } else if (depth == 1 && currentSheetIndex == sheetIndex && record instanceof CellValueRecordInterface) {
+            CellValueRecordInterface cell = (CellValueRecordInterface) record;
+            setValue(cell.getRow(), cell.getColumn(), decodeValue(record), cell.getXFIndex());
+        } else if (depth == 1 && currentSheetIndex == sheetIndex && record instanceof MulBlankRecord) {
+            // Record stream expands multiple RK values but not multiple blanks, so they are expanded here as DOM reading does.
+            MulBlankRecord blanks = (MulBlankRecord) record;
+            for (int i = 0; i < blanks.getNumColumns(); i++) {
+                setValue(blanks.getRow(), blanks.getFirstColumn() + i, "", blanks.getXFAt(i));
+            }
+        }
+        return CONTINUE;
+    }
+
+    private void setValue(int row, int column, Object value, int styleIndex) {
+        if (row != rowValues.getRowNum()) {
+            deliverRow();
+            rowValues.reset(row);
+        }
+        rowValues.setValue(column, value, value instanceof Double && styleIndex < dateStyles.length && dateStyles[styleIndex]);
+    }
+
+    private boolean[] readDateStyles() {
+        boolean[] styles = new boolean[formatIndexes.size()];
+        for (int i = 0; i < styles.length; i++) {
+            int formatIndex = formatIndexes.get(i);
+            String format = formats.containsKey(formatIndex) ? formats.get(formatIndex) : BuiltinFormats.getBuiltinFormat(formatIndex);
+            styles[i] = DateUtil.isADateFormat(formatIndex, format);
+        }
+        return styles;
+    }
+
+    private void deliverRow() {
+        if (rowValues.size() > 0) {
+            rowsAmount++;
+            consumer.accept(rowValues);
+        }
+    }
+
+    private Object decodeValue(Record record) {
+        if (record instanceof LabelSSTRecord) {
+            return sharedStrings.getString(((LabelSSTRecord) record).getSSTIndex()).getString().trim();
+        } else if (record instanceof NumberRecord) {
+            return ((NumberRecord) record).getValue();
+        } else if (record instanceof BoolErrRecord) {
+            BoolErrRecord boolErr = (BoolErrRecord) record;
+            return boolErr.isBoolean() ? (Object) boolErr.getBooleanValue() : (Object) boolErr.getErrorValue();
+        } else if (record instanceof FormulaRecord) {
+            // Only numerical cached result is returned for formulas, zero is returned for other results as ExcelFile does.
+            FormulaRecord formula = (FormulaRecord) record;
+            return formula.getCachedResultTypeEnum() == CellType.NUMERIC ? formula.getValue() : 0.0D;
+        } else if (record instanceof LabelRecord) {
+            return ((LabelRecord) record).getValue().trim();
+        } else if (record instanceof RKRecord) {
+            return ((RKRecord) record).getRKNumber();
+        } else if (record instanceof BlankRecord) {
+            return "";
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.nadjannn.excel.handling.hssf;
+
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.ExcelStreamingReader;
+import io.github.nadjannn.excel.handling.ExcelStreamingReaderAbstract;
+import io.github.nadjannn.excel.handling.RowValues;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for type "Excel 97-2004 Workbook (.xls)". Workbook records are processed as events,
+ * so only current row and shared strings are kept in memory.
+ */
+public class HSSFStreamingReader extends ExcelStreamingReaderAbstract implements ExcelStreamingReader {
+
+    private final POIFSFileSystem poiFileSystem;
+
+    private boolean date1904;
+
+    public HSSFStreamingReader(String fileName) {
+        super(fileName);
+        long start = System.nanoTime();
+        try {
+            poiFileSystem = new POIFSFileSystem(new File(fileName), true);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not open file for reading " + fileName, e);
+        }
+        try {
+            readSheetNames();
+        } catch (Exception e) {
+            closeQuietly();
+            throw new ExcelHandlingException("Could not open file for reading " + fileName, e);
+        }
+        notifyLoaded(start);
+    }
+
+    public void readRows(Consumer<RowValues> consumer) {
+        long start = System.nanoTime();
+        RowsConsumer rowsConsumer = new RowsConsumer(consumer);
+        HSSFSheetRowsListener rowsListener = new HSSFSheetRowsListener(sheetIndex, date1904, rowsConsumer);
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(rowsListener);
+        try {
+            new HSSFEventFactory().abortableProcessWorkbookEvents(request, poiFileSystem);
+            notifySheetRead(sheetIndex, rowsListener.getRowsAmount(), start);
+        } catch (RuntimeException e) {
+            if (rowsConsumer.isThrownByConsumer(e)) {
+                throw e;
+            }
+            throw new ExcelHandlingException("Could not read sheet " + sheetIndex + " from file " + fileName, e);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not read sheet " + sheetIndex + " from file " + fileName, e);
+        }
+    }
+
+    public void close() throws ExcelClosingException {
+        try {
+            poiFileSystem.close();
+        } catch (Exception e) {
+            throw new ExcelClosingException("Cannot close file " + fileName, e);
+        }
+    }
+
+    private void readSheetNames() throws Exception {
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(new AbortableHSSFListener() {
+            @Override
+            public short abortableProcessRecord(Record record) {
+                if (record instanceof BoundSheetRecord) {
+                    sheetNames.add(((BoundSheetRecord) record).getSheetname());
+                } else if (record instanceof DateWindow1904Record) {
+                    date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+                }
+                // Sheet names are defined before the first sheet, so processing can be stopped there.
+                boolean sheetStarted = record instanceof BOFRecord && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK;
+                return (short) (sheetStarted ? 1 : 0);
+            }
+        });
+        new HSSFEventFactory().abortableProcessWorkbookEvents(request, poiFileSystem);
+    }
+
+    private void closeQuietly() {
+        try {
+            poiFileSystem.close();
+        } catch (Exception e) {
+            // Original exception is more important.
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package io.github.nadjannn.excel.handling.mapping;
+
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compiles bean accessors once, so mapping does not use reflection for every row.
+ * Public members of public classes visible from the library class loader are bound with LambdaMetafactory,
+ * other members are accessed with method handles.
+ */
+final class BeanAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private BeanAccessors() {
+    }
+
+    static List<Field> annotatedFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(ExcelColumn.class) && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new ExcelHandlingException("There are no fields with ExcelColumn annotation in class " + type.getName());
+        }
+        return fields;
+    }
+
+    static <T> Supplier<T> constructor(Class<T> type) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            if (isBindable(type) && Modifier.isPublic(constructor.getModifiers())) {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+                return (Supplier<T>) site.getTarget().invokeExact();
+            }
+            constructor.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return (T) handle.invokeExact();
+                } catch (Throwable e) {
+                    throw new ExcelHandlingException("Could not create instance of " + type.getName(), e);
+                }
+            };
+        } catch (Throwable e) {
+            throw new ExcelHandlingException("Class " + type.getName() + " has to have constructor without parameters", e);
+        }
+    }
+
+    static BiConsumer<Object, Object> setter(Field field) {
+        try {
+            Method method = findSetter(field);
+            if (method != null) {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class), handle,
+                        MethodType.methodType(void.class, field.getDeclaringClass(), ClassUtils.primitiveToWrapper(field.getType())));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            }
+            field.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (bean, value) -> {
+                try {
+                    handle.invokeExact(bean, value);
+                } catch (Throwable e) {
+                    throw new ExcelHandlingException("Could not set field " + field.getName(), e);
+                }
+            };
+        } catch (Throwable e) {
+            throw new ExcelHandlingException("Could not access field " + field.getName(), e);
+        }
+    }
+
+    static Function<Object, Object> getter(Field field) {
+        try {
+            Method method = findGetter(field);
+            if (method != null) {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class), handle,
+                        MethodType.methodType(ClassUtils.primitiveToWrapper(field.getType()), field.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            }
+            field.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return bean -> {
+                try {
+                    return handle.invokeExact(bean);
+                } catch (Throwable e) {
+                    throw new ExcelHandlingException("Could not get field " + field.getName(), e);
+                }
+            };
+        } catch (Throwable e) {
+            throw new ExcelHandlingException("Could not access field " + field.getName(), e);
+        }
+    }
+
+    private static Method findGetter(Field field) {
+        Class<?> type = field.getDeclaringClass();
+        if (!isBindable(type)) {
+            return null;
+        }
+        String name = StringUtils.capitalize(field.getName());
+        for (String prefix : field.getType() == boolean.class ? new String[]{"is", "get"} : new String[]{"get"}) {
+            try {
+                Method method = type.getMethod(prefix + name);
+                if (method.getReturnType() == field.getType() && !Modifier.isStatic(method.getModifiers())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // Try next prefix.
+            }
+        }
+        return null;
+    }
+
+    private static Method findSetter(Field field) {
+        Class<?> type = field.getDeclaringClass();
+        if (!isBindable(type)) {
+            return null;
+        }
+        try {
+            Method method = type.getMethod("set" + StringUtils.capitalize(field.getName()), field.getType());
+            return method.getReturnType() == void.class && !Modifier.isStatic(method.getModifiers()) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lambda class is defined in the library class loader, so it can refer only to public classes of this loader or its parents.
+     * Classes of child loaders, like web application classes, are accessed with method handles.
+     */
+    private static boolean isBindable(Class<?> type) {
+        if (!isPublic(type)) {
+            return false;
+        }
+        ClassLoader libraryLoader = BeanAccessors.class.getClassLoader();
+        ClassLoader typeLoader = type.getClassLoader();
+        for (ClassLoader loader = libraryLoader; loader != null; loader = loader.getParent()) {
+            if (loader == typeLoader) {
+                return true;
+            }
+        }
+        // Bootstrap classes are visible from every loader.
+        return typeLoader == null;
+    }
+
+    static boolean isPublic(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
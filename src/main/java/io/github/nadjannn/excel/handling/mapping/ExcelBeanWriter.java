@@ -0,0 +1,153 @@
+package io.github.nadjannn.excel.handling.mapping;
+
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Describes how objects of particular class are written as rows. Columns are bound with {@link ExcelColumn} annotation,
+ * class is inspected once and getters are compiled and cached for the whole application.
+ *
+ * @param <T> type of written objects.
+ */
+public final class ExcelBeanWriter<T> {
+
+    private static final ClassValue<ExcelBeanWriter<?>> WRITERS = new ClassValue<ExcelBeanWriter<?>>() {
+        @Override
+        protected ExcelBeanWriter<?> computeValue(Class<?> type) {
+            return new ExcelBeanWriter<>(type);
+        }
+    };
+
+    private final int columnsAmount;
+
+    private final int[] columns;
+
+    private final List<Function<Object, Object>> getters;
+
+    private final String[] headers;
+
+    private final String[] formats;
+
+    private final boolean[] dateColumns;
+
+    private final List<List<String>> options;
+
+    private ExcelBeanWriter(Class<T> type) {
+        List<Field> fields = BeanAccessors.annotatedFields(type);
+        columns = new int[fields.size()];
+        getters = new ArrayList<>(fields.size());
+        int maxIndex = fields.stream().mapToInt(field -> field.getAnnotation(ExcelColumn.class).index()).max().getAsInt();
+        boolean[] used = new boolean[Math.max(maxIndex, 0) + fields.size() + 1];
+        for (int i = 0; i < fields.size(); i++) {
+            int index = fields.get(i).getAnnotation(ExcelColumn.class).index();
+            columns[i] = index;
+            if (index >= 0) {
+                if (used[index]) {
+                    throw new ExcelHandlingException("Column index " + index + " is used by more than one field of class " + type.getName());
+                }
+                used[index] = true;
+            }
+        }
+        int nextColumn = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            if (columns[i] < 0) {
+                while (used[nextColumn]) {
+                    nextColumn++;
+                }
+                columns[i] = nextColumn;
+                used[nextColumn] = true;
+            }
+        }
+        columnsAmount = Arrays.stream(columns).max().getAsInt() + 1;
+        headers = new String[columnsAmount];
+        formats = new String[columnsAmount];
+        dateColumns = new boolean[columnsAmount];
+        options = new ArrayList<>(Collections.nCopies(columnsAmount, null));
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            ExcelColumn column = field.getAnnotation(ExcelColumn.class);
+            headers[columns[i]] = StringUtils.isNotBlank(column.header()) ? column.header().trim() : field.getName();
+            if (StringUtils.isNotBlank(column.format())) {
+                formats[columns[i]] = column.format();
+            }
+            dateColumns[columns[i]] = Date.class.isAssignableFrom(field.getType());
+            options.set(columns[i], column.options().length == 0 ? null : Collections.unmodifiableList(Arrays.asList(column.options())));
+            getters.add(BeanAccessors.getter(field));
+        }
+    }
+
+    /**
+     * Returns writer for particular class. Writer is created once for every class.
+     *
+     * @param type class of written objects.
+     * @param <T>  type of written objects.
+     * @return ExcelBeanWriter instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExcelBeanWriter<T> forClass(Class<T> type) {
+        return (ExcelBeanWriter<T>) WRITERS.get(type);
+    }
+
+    /**
+     * Returns amount of columns, i.e. the last column index plus one.
+     *
+     * @return int value of columns amount.
+     */
+    public int getColumnsAmount() {
+        return columnsAmount;
+    }
+
+    /**
+     * Returns header texts by column index. Columns which are not bound to fields have null header.
+     *
+     * @return array of header texts.
+     */
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    /**
+     * Returns data format of particular column or null if general format is used.
+     * Date columns without format of the annotation get provided date format.
+     *
+     * @param column     Integer column value counted from zero.
+     * @param dateFormat String value of data format for date columns.
+     * @return String value of data format.
+     */
+    public String getFormat(int column, String dateFormat) {
+        return formats[column] == null && dateColumns[column] ? dateFormat : formats[column];
+    }
+
+    /**
+     * Returns drop down list options of particular column or null if column does not have drop down list.
+     *
+     * @param column Integer column value counted from zero.
+     * @return List of options.
+     */
+    public List<String> getOptions(int column) {
+        return options.get(column);
+    }
+
+    /**
+     * Reads field values of the object into array by column index.
+     *
+     * @param bean   written object.
+     * @param values array for values with at least {@link #getColumnsAmount()} length.
+     * @return provided array filled with values.
+     */
+    public Object[] readValues(T bean, Object[] values) {
+        for (int i = 0; i < columns.length; i++) {
+            values[columns[i]] = getters.get(i).apply(bean);
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,46 @@
+package io.github.nadjannn.excel.handling.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds field to Excel column either by column index or by text in header row.
+ * For writing, header is taken from field name if it is not defined and columns without index follow in declaration order.
+ * Column indexes of written class have to be unique.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ExcelColumn {
+
+    /**
+     * Column index counted from zero. It is ignored if header is defined.
+     *
+     * @return int value of column index.
+     */
+    int index() default -1;
+
+    /**
+     * Text in header row which defines column. Comparison ignores case and leading and trailing spaces.
+     *
+     * @return String value of header.
+     */
+    String header() default "";
+
+    /**
+     * Data format which is applied when objects are written, for example, "0.00" or "dd.mm.yyyy".
+     * Default format yyyy-mm-dd is used for dates if it is empty.
+     *
+     * @return String value of data format.
+     */
+    String format() default "";
+
+    /**
+     * Options of drop down list which is set for the column when objects are written.
+     *
+     * @return array of options.
+     */
+    String[] options() default {};
+
+}
@@ -0,0 +1,213 @@
+package io.github.nadjannn.excel.handling.mapping;
+
+import io.github.nadjannn.excel.handling.ConverterUtil;
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.RowValues;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maps rows to objects of particular class. Fields are bound to columns with {@link ExcelColumn} annotation.
+ * Class is inspected once, accessors are compiled and cached for the whole application.
+ *
+ * @param <T> type of mapped objects.
+ */
+public final class ExcelRowMapper<T> {
+
+    private static final ClassValue<ExcelRowMapper<?>> MAPPERS = new ClassValue<ExcelRowMapper<?>>() {
+        @Override
+        protected ExcelRowMapper<?> computeValue(Class<?> type) {
+            return new ExcelRowMapper<>(type);
+        }
+    };
+
+    private final Class<T> type;
+
+    private final Supplier<T> constructor;
+
+    private final String[] headers;
+
+    private final int[] indexes;
+
+    private final List<Function<Object, Object>> converters;
+
+    private final List<BiConsumer<Object, Object>> setters;
+
+    private final boolean headerRequired;
+
+    private ExcelRowMapper(Class<T> type) {
+        this.type = type;
+        List<Field> fields = BeanAccessors.annotatedFields(type);
+        constructor = BeanAccessors.constructor(type);
+        headers = new String[fields.size()];
+        indexes = new int[fields.size()];
+        converters = new ArrayList<>(fields.size());
+        setters = new ArrayList<>(fields.size());
+        boolean header = false;
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            ExcelColumn column = field.getAnnotation(ExcelColumn.class);
+            if (StringUtils.isNotBlank(column.header())) {
+                headers[i] = column.header().trim();
+                header = true;
+            } else if (column.index() < 0) {
+                throw new ExcelHandlingException("Column index or header has to be defined for field " + field.getName());
+            }
+            indexes[i] = column.index();
+            converters.add(converter(field));
+            setters.add(BeanAccessors.setter(field));
+        }
+        headerRequired = header;
+    }
+
+    /**
+     * Returns mapper for particular class. Mapper is created once for every class.
+     *
+     * @param type class of mapped objects.
+     * @param <T>  type of mapped objects.
+     * @return ExcelRowMapper instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExcelRowMapper<T> forClass(Class<T> type) {
+        return (ExcelRowMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * Returns true if at least one field is bound by header text, so header row is needed to find columns.
+     *
+     * @return boolean value.
+     */
+    public boolean isHeaderRequired() {
+        return headerRequired;
+    }
+
+    /**
+     * Maps row to a new object when all fields are bound by column index.
+     *
+     * @param row RowValues with cell values.
+     * @return mapped object.
+     */
+    public T map(RowValues row) {
+        if (headerRequired) {
+            throw new ExcelHandlingException("Header row is needed to map class " + type.getName());
+        }
+        return map(row, indexes);
+    }
+
+    /**
+     * Returns mapping function where columns bound by header text are found in provided header row.
+     *
+     * @param headerRow RowValues with header texts.
+     * @return function which maps row to a new object.
+     */
+    public Function<RowValues, T> withHeader(RowValues headerRow) {
+        int[] columns = resolveColumns(headerRow);
+        return row -> map(row, columns);
+    }
+
+    /**
+     * Maps rows of current loaded sheet. Data starts from the first row if all fields are bound by column index,
+     * otherwise the first row is a header row and data starts from the second row.
+     *
+     * @param excelFile ExcelFile with loaded sheet.
+     * @return Stream of mapped objects.
+     */
+    public Stream<T> stream(ExcelFile excelFile) {
+        return stream(excelFile, headerRequired ? 1 : 0);
+    }
+
+    /**
+     * Maps rows of current loaded sheet starting from particular row, previous row is a header row if it is needed.
+     * Rows which are not present on the sheet are skipped.
+     *
+     * @param excelFile    ExcelFile with loaded sheet.
+     * @param firstDataRow Integer value of the first data row counted from zero.
+     * @return Stream of mapped objects.
+     */
+    public Stream<T> stream(ExcelFile excelFile, int firstDataRow) {
+        int[] columns = headerRequired ? resolveColumns(excelFile.readRow(firstDataRow - 1)) : indexes;
+        return excelFile.rows(firstDataRow, Math.max(firstDataRow, excelFile.getLastRowNum() + 1))
+                .filter(row -> row.size() > 0)
+                .map(row -> map(row, columns));
+    }
+
+    /**
+     * Maps all rows of current loaded sheet, see {@link #stream(ExcelFile)}.
+     *
+     * @param excelFile ExcelFile with loaded sheet.
+     * @return List of mapped objects.
+     */
+    public List<T> readAll(ExcelFile excelFile) {
+        return stream(excelFile).collect(Collectors.toList());
+    }
+
+    private T map(RowValues row, int[] columns) {
+        T bean = constructor.get();
+        for (int i = 0; i < columns.length; i++) {
+            Object value = row.getValue(columns[i]);
+            if (value != null) {
+                value = converters.get(i).apply(value);
+                if (value != null) {
+                    setters.get(i).accept(bean, value);
+                }
+            }
+        }
+        return bean;
+    }
+
+    private int[] resolveColumns(RowValues headerRow) {
+        int[] columns = indexes.clone();
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i] != null) {
+                columns[i] = findColumn(headerRow, headers[i]);
+            }
+        }
+        return columns;
+    }
+
+    private int findColumn(RowValues headerRow, String header) {
+        for (int column = 0; column < headerRow.size(); column++) {
+            if (header.equalsIgnoreCase(headerRow.getCellValueString(column).trim())) {
+                return column;
+            }
+        }
+        throw new ExcelHandlingException("Column with header " + header + " is not found for class " + type.getName());
+    }
+
+    private static Function<Object, Object> converter(Field field) {
+        Class<?> fieldType = field.getType();
+        if (fieldType == String.class) {
+            return value -> ConverterUtil.convertToString(value, false);
+        } else if (fieldType == Double.class || fieldType == double.class) {
+            return value -> value instanceof Double ? value : null;
+        } else if (fieldType == Integer.class || fieldType == int.class) {
+            return value -> value instanceof Double ? (Object) ((Double) value).intValue() : null;
+        } else if (fieldType == Long.class || fieldType == long.class) {
+            return value -> value instanceof Double ? (Object) ((Double) value).longValue() : null;
+        } else if (fieldType == Float.class || fieldType == float.class) {
+            return value -> value instanceof Double ? (Object) ((Double) value).floatValue() : null;
+        } else if (fieldType == BigDecimal.class) {
+            return value -> value instanceof Double ? BigDecimal.valueOf((Double) value) : null;
+        } else if (fieldType == Boolean.class || fieldType == boolean.class) {
+            return value -> value instanceof Boolean ? value : null;
+        } else if (fieldType == Date.class) {
+            return value -> value instanceof Double ? DateUtil.getJavaDate((Double) value) : null;
+        } else if (fieldType == Object.class) {
+            return value -> value;
+        }
+        throw new ExcelHandlingException("Unsupported type " + fieldType.getName() + " of field " + field.getName());
+    }
+
+}
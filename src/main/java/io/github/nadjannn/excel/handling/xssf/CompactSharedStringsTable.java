@@ -0,0 +1,225 @@
+package io.github.nadjannn.excel.handling.xssf;
+
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only shared strings table which keeps strings as UTF-8 bytes in a direct buffer outside of the heap.
+ * Only offsets are kept on the heap, String objects are created when particular string is requested.
+ * Table is safe for concurrent reading.
+ */
+public class CompactSharedStringsTable implements SharedStrings {
+
+    private static final String NS_SPREADSHEETML = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Offsets are int values, so strings can not take more than 2 GB.
+     */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+
+    /**
+     * Start offsets of strings, the end of string i is the start of string i + 1.
+     */
+    private int[] offsets = new int[1024];
+
+    private int uniqueCount;
+
+    private int count;
+
+    public CompactSharedStringsTable(OPCPackage opcPackage) {
+        try {
+            List<PackagePart> parts = opcPackage.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+            if (!parts.isEmpty()) {
+                try (InputStream stream = parts.get(0).getInputStream()) {
+                    readFrom(stream);
+                }
+            }
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not read shared strings", e);
+        }
+    }
+
+    public CompactSharedStringsTable(InputStream stream) {
+        try {
+            readFrom(stream);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not read shared strings", e);
+        }
+    }
+
+    /**
+     * Returns string with particular index, String object is created for every call.
+     *
+     * @param index Integer value of string index counted from zero.
+     * @return String value.
+     */
+    public String getString(int index) {
+        if (index < 0 || index >= uniqueCount) {
+            throw new ExcelHandlingException("Shared string " + index + " does not exist");
+        }
+        int start = offsets[index];
+        byte[] bytes = new byte[offsets[index + 1] - start];
+        ByteBuffer view = buffer.duplicate();
+        view.position(start);
+        view.get(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        // Escaped characters like _x000D_ are decoded by POI as for other shared strings tables.
+        return value.contains("_x") ? new XSSFRichTextString(value).getString() : value;
+    }
+
+    @Override
+    public RichTextString getItemAt(int index) {
+        return new XSSFRichTextString(getString(index));
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * Returns amount of bytes used by strings outside of the heap.
+     *
+     * @return int value of used bytes.
+     */
+    public int getSizeInBytes() {
+        return offsets[uniqueCount];
+    }
+
+    private void readFrom(InputStream stream) throws Exception {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(new SharedStringsHandler());
+        xmlReader.parse(new InputSource(stream));
+    }
+
+    private void addString(CharSequence text, CharsetEncoder encoder) {
+        if (uniqueCount + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                grow();
+                continue;
+            }
+            result = encoder.flush(buffer);
+            if (result.isOverflow()) {
+                grow();
+                continue;
+            }
+            break;
+        }
+        uniqueCount++;
+        offsets[uniqueCount] = buffer.position();
+    }
+
+    private void grow() {
+        if (buffer.capacity() == MAX_BUFFER_SIZE) {
+            throw new ExcelHandlingException("Shared strings exceed " + MAX_BUFFER_SIZE + " bytes");
+        }
+        ByteBuffer bigger = ByteBuffer.allocateDirect((int) Math.min((long) buffer.capacity() * 2, MAX_BUFFER_SIZE));
+        buffer.flip();
+        bigger.put(buffer);
+        buffer = bigger;
+    }
+
+    /**
+     * Collects text of every string item, phonetic runs are skipped.
+     */
+    private class SharedStringsHandler extends DefaultHandler {
+
+        private final StringBuilder text = new StringBuilder();
+
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+        private boolean textExpected;
+
+        private boolean phonetic;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (uri != null && !uri.equals(NS_SPREADSHEETML)) {
+                return;
+            }
+            switch (localName) {
+                case "sst":
+                    String countValue = attributes.getValue("count");
+                    String uniqueCountValue = attributes.getValue("uniqueCount");
+                    count = countValue == null ? 0 : Integer.parseInt(countValue);
+                    if (uniqueCountValue != null) {
+                        offsets = new int[Integer.parseInt(uniqueCountValue) + 2];
+                    }
+                    break;
+                case "si":
+                    text.setLength(0);
+                    break;
+                case "rPh":
+                    phonetic = true;
+                    break;
+                case "t":
+                    textExpected = !phonetic;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            if (uri != null && !uri.equals(NS_SPREADSHEETML)) {
+                return;
+            }
+            switch (localName) {
+                case "si":
+                    addString(text, encoder);
+                    break;
+                case "rPh":
+                    phonetic = false;
+                    break;
+                case "t":
+                    textExpected = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (textExpected) {
+                text.append(ch, start, length);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package io.github.nadjannn.excel.handling.xssf;
+
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileAbstract;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.apache.poi.ss.usermodel.DataValidationHelper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+/**
+ * Excel file implementation for streaming writing of type "Excel Workbook (.xlsx)".
+ * Only the latest rows from the row window are kept in memory, rows leaving the window are flushed to disk.
+ */
+public class SXSSFExcelFile extends ExcelFileAbstract implements ExcelFile {
+
+    public static final int DEFAULT_ROW_WINDOW_SIZE = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    private final int rowWindowSize;
+
+    /**
+     * Streaming workbook flushes all rows and closes sheet writers when it is written to file or stream,
+     * so it can not be changed after that.
+     */
+    private volatile boolean saved;
+
+    public SXSSFExcelFile(String fileName) {
+        this(fileName, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    public SXSSFExcelFile(String fileName, int rowWindowSize) {
+        super(fileName, HandlingType.WRITE);
+        if (rowWindowSize <= 0) {
+            ((SXSSFWorkbook) workbook).dispose();
+            throw new ExcelHandlingException("Row window size has to be positive for file " + fileName);
+        }
+        this.rowWindowSize = rowWindowSize;
+        ((SXSSFSheet) sheet).setRandomAccessWindowSize(rowWindowSize);
+    }
+
+    /**
+     * Returns amount of rows which are kept in memory for every sheet.
+     *
+     * @return int value of row window size.
+     */
+    public int getRowWindowSize() {
+        return rowWindowSize;
+    }
+
+    @Override
+    public void addAndLoadSheet() {
+        super.addAndLoadSheet();
+        ((SXSSFSheet) sheet).setRandomAccessWindowSize(rowWindowSize);
+    }
+
+    @Override
+    public void close() throws ExcelClosingException {
+        try {
+            super.close();
+        } finally {
+            // Remove temporary files with flushed rows.
+            ((SXSSFWorkbook) workbook).dispose();
+        }
+    }
+
+    @Override
+    protected void save() {
+        super.save();
+        saved = true;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) {
+        super.writeTo(outputStream);
+        saved = true;
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) {
+        super.writeTo(channel);
+        saved = true;
+    }
+
+    @Override
+    protected Optional<Row> getExcelRow(Sheet sheet, int row, boolean createIfNotExists) {
+        if (createIfNotExists && saved) {
+            throw new ExcelHandlingException("Streaming file " + fileName + " is already saved and can not be changed");
+        }
+        if (createIfNotExists && row >= 0 && row <= ((SXSSFSheet) sheet).getLastFlushedRowNum() && sheet.getRow(row) == null) {
+            throw new ExcelHandlingException("Row " + row + " is already flushed to disk and can not be changed, only the latest "
+                    + rowWindowSize + " rows are available for writing");
+        }
+        return super.getExcelRow(sheet, row, createIfNotExists);
+    }
+
+    protected Workbook loadWorkbook() {
+        throw new ExcelHandlingException("Streaming file can be opened for writing only " + fileName);
+    }
+
+    protected Workbook createWorkbook() {
+        return new SXSSFWorkbook(DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    protected DataValidationHelper createDataValidationHelper(Sheet sheet) {
+        return sheet.getDataValidationHelper();
+    }
+
+}
@@ -4,14 +4,18 @@ import io.github.nadjannn.excel.handling.ExcelFile;
 import io.github.nadjannn.excel.handling.ExcelFileAbstract;
 import io.github.nadjannn.excel.handling.ExcelHandlingException;
 import io.github.nadjannn.excel.handling.HandlingType;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.DataValidationHelper;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.xssf.usermodel.XSSFDataValidationHelper;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.FileInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Excel file implementation for type "Excel Workbook (.xlsx)".
@@ -22,19 +26,62 @@ public class XSSFExcelFile extends ExcelFileAbstract implements ExcelFile {
         super(fileName, handlingType);
     }
 
+    /**
+     * Creates in-memory file for writing, use {@link #writeTo(java.io.OutputStream)} to get its content.
+     */
+    public XSSFExcelFile() {
+        super(new XSSFWorkbook(), HandlingType.WRITE);
+    }
+
+    /**
+     * Creates in-memory file for reading from the stream. Stream is read fully and is not closed.
+     */
+    public XSSFExcelFile(InputStream inputStream) {
+        super(inputStream);
+    }
+
+    /**
+     * Package is opened directly from the file in read-only mode, so it is not buffered into memory.
+     */
     protected Workbook loadWorkbook() {
+        OPCPackage opcPackage = null;
         try {
-            return WorkbookFactory.create(new FileInputStream(fileName));
+            opcPackage = OPCPackage.open(new File(fileName), PackageAccess.READ);
+            return new XSSFWorkbook(opcPackage);
         } catch (Exception e) {
+            if (opcPackage != null) {
+                opcPackage.revert();
+            }
             throw new ExcelHandlingException("Could not open file for reading " + fileName, e);
         }
     }
 
+    /**
+     * Read-only package can not be saved, so it is reverted to release the file.
+     */
+    @Override
+    protected void closeWorkbook() throws IOException {
+        if (handlingType == HandlingType.READ) {
+            ((XSSFWorkbook) workbook).getPackage().revert();
+        } else {
+            super.closeWorkbook();
+        }
+    }
+
+    @Override
+    protected Workbook readWorkbook(InputStream inputStream) {
+        try {
+            return new XSSFWorkbook(inputStream);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not read workbook from stream", e);
+        }
+    }
+
     protected Workbook createWorkbook() {
         return new XSSFWorkbook();
     }
 
-    protected DataValidationHelper createDataValidationHelper() {
+    protected DataValidationHelper createDataValidationHelper(Sheet sheet) {
         return new XSSFDataValidationHelper((XSSFSheet) sheet);
     }
 
@@ -0,0 +1,191 @@
+package io.github.nadjannn.excel.handling.xssf;
+
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.RowValues;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.function.Consumer;
+
+/**
+ * SAX handler for sheet XML part which decodes cells into the same value types as ExcelFile.getCellValue returns.
+ * Only current row is kept in memory.
+ */
+class XSSFSheetRowsHandler extends DefaultHandler {
+
+    private static final String NS_SPREADSHEETML = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private final CompactSharedStringsTable sharedStrings;
+
+    private final boolean[] dateStyles;
+
+    private final Consumer<RowValues> consumer;
+
+    private final RowValues rowValues = new RowValues();
+
+    private final StringBuilder text = new StringBuilder();
+
+    private boolean textExpected;
+
+    private boolean phonetic;
+
+    private int nextRowNum;
+
+    private int column;
+
+    private String cellType;
+
+    private int styleIndex;
+
+    private boolean formula;
+
+    private boolean hasValue;
+
+    private int rowsAmount;
+
+    XSSFSheetRowsHandler(CompactSharedStringsTable sharedStrings, boolean[] dateStyles, boolean date1904, Consumer<RowValues> consumer) {
+        this.sharedStrings = sharedStrings;
+        this.dateStyles = dateStyles;
+        this.consumer = consumer;
+        rowValues.setDate1904(date1904);
+        rowValues.setSharedStrings(index -> sharedStrings.getString(index).trim());
+    }
+
+    int getRowsAmount() {
+        return rowsAmount;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        if (uri != null && !uri.equals(NS_SPREADSHEETML)) {
+            return;
+        }
+        switch (localName) {
+            case "row":
+                String rowRef = attributes.getValue("r");
+                rowValues.reset(rowRef == null ? nextRowNum : Integer.parseInt(rowRef) - 1);
+                column = -1;
+                break;
+            case "c":
+                String cellRef = attributes.getValue("r");
+                column = cellRef == null ? column + 1 : parseColumn(cellRef);
+                cellType = attributes.getValue("t");
+                String style = attributes.getValue("s");
+                styleIndex = style == null ? 0 : Integer.parseInt(style);
+                formula = false;
+                hasValue = false;
+                text.setLength(0);
+                break;
+            case "f":
+                formula = true;
+                break;
+            case "v":
+                hasValue = true;
+                textExpected = true;
+                break;
+            case "rPh":
+                phonetic = true;
+                break;
+            case "t":
+                textExpected = !phonetic;
+                hasValue = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        if (uri != null && !uri.equals(NS_SPREADSHEETML)) {
+            return;
+        }
+        switch (localName) {
+            case "v":
+            case "t":
+                textExpected = false;
+                break;
+            case "rPh":
+                phonetic = false;
+                break;
+            case "c":
+                if (!formula && "s".equals(cellType)) {
+                    rowValues.setSharedString(column, parseIndex(text));
+                    break;
+                }
+                Object value = decodeValue();
+                rowValues.setValue(column, value, value instanceof Double && styleIndex < dateStyles.length && dateStyles[styleIndex]);
+                break;
+            case "row":
+                nextRowNum = rowValues.getRowNum() + 1;
+                if (rowValues.size() > 0) {
+                    rowsAmount++;
+                    consumer.accept(rowValues);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (textExpected) {
+            text.append(ch, start, length);
+        }
+    }
+
+    private Object decodeValue() {
+        if (formula) {
+            // Only numerical cached result is returned for formulas, zero is returned for other results as ExcelFile does.
+            boolean numeric = cellType == null || "n".equals(cellType);
+            return numeric && hasValue && text.length() > 0 ? Double.valueOf(text.toString()) : Double.valueOf(0.0D);
+        }
+        if (cellType == null || "n".equals(cellType)) {
+            return hasValue && text.length() > 0 ? Double.valueOf(text.toString()) : "";
+        }
+        switch (cellType) {
+            case "b":
+                return "1".equals(text.toString());
+            case "e":
+                return text.length() == 0 ? (byte) 0 : FormulaError.forString(text.toString()).getCode();
+            default:
+                return text.toString().trim();
+        }
+    }
+
+    /**
+     * Returns shared string index from cell value without creating String.
+     */
+    private static int parseIndex(CharSequence value) {
+        if (value.length() == 0) {
+            throw new ExcelHandlingException("Shared string index is missing");
+        }
+        int index = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new ExcelHandlingException("Invalid shared string index " + value);
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Returns column index counted from zero from cell reference like "AB12".
+     */
+    static int parseColumn(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char c = cellRef.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+}
@@ -0,0 +1,163 @@
+package io.github.nadjannn.excel.handling.xssf;
+
+import io.github.nadjannn.excel.handling.ExcelClosingException;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.ExcelStreamingReader;
+import io.github.nadjannn.excel.handling.ExcelStreamingReaderAbstract;
+import io.github.nadjannn.excel.handling.RowValues;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Streaming reader for type "Excel Workbook (.xlsx)". Sheet XML is parsed with SAX, so only current row is kept in memory.
+ * Shared strings are kept outside of the heap in {@link CompactSharedStringsTable}.
+ * Sheets are independent parts of the package, so they can be parsed concurrently with {@link #readSheets(Executor, IntFunction)}.
+ */
+public class XSSFStreamingReader extends ExcelStreamingReaderAbstract implements ExcelStreamingReader {
+
+    private final OPCPackage opcPackage;
+
+    private final CompactSharedStringsTable sharedStrings;
+
+    private final List<PackagePart> sheetParts = new ArrayList<>();
+
+    /**
+     * Flags of cell styles with date format by style index.
+     */
+    private boolean[] dateStyles = new boolean[0];
+
+    private boolean date1904;
+
+    public XSSFStreamingReader(String fileName) {
+        super(fileName);
+        long start = System.nanoTime();
+        try {
+            opcPackage = OPCPackage.open(new File(fileName), PackageAccess.READ);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not open file for reading " + fileName, e);
+        }
+        try {
+            XSSFReader reader = new XSSFReader(opcPackage);
+            sharedStrings = new CompactSharedStringsTable(opcPackage);
+            StylesTable styles = reader.getStylesTable();
+            if (styles != null) {
+                dateStyles = readDateStyles(styles);
+            }
+            try (InputStream workbookStream = reader.getWorkbookData()) {
+                date1904 = readDate1904(workbookStream);
+            }
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                // Iterator opens sheet stream to move to the next sheet, only sheet name and part are kept.
+                InputStream sheetStream = sheets.next();
+                try {
+                    sheetNames.add(sheets.getSheetName());
+                    sheetParts.add(sheets.getSheetPart());
+                } finally {
+                    sheetStream.close();
+                }
+            }
+        } catch (Exception e) {
+            opcPackage.revert();
+            throw new ExcelHandlingException("Could not open file for reading " + fileName, e);
+        }
+        notifyLoaded(start);
+    }
+
+    public void readRows(Consumer<RowValues> consumer) {
+        readSheet(sheetIndex, consumer);
+    }
+
+    /**
+     * Reads all sheets concurrently on provided executor. Shared strings are loaded once and used by all sheets.
+     * Every sheet gets its own consumer, rows of one sheet are passed to it in order from one thread.
+     *
+     * @param executor  Executor for sheets parsing.
+     * @param consumers function which returns consumer for particular sheet index.
+     * @return List of futures by sheet index, every future is completed with amount of read rows.
+     */
+    public List<CompletableFuture<Integer>> readSheets(Executor executor, IntFunction<Consumer<RowValues>> consumers) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(sheetParts.size());
+        for (int index = 0; index < sheetParts.size(); index++) {
+            int sheet = index;
+            futures.add(CompletableFuture.supplyAsync(() -> readSheet(sheet, consumers.apply(sheet)), executor));
+        }
+        return futures;
+    }
+
+    private int readSheet(int index, Consumer<RowValues> consumer) {
+        long start = System.nanoTime();
+        RowsConsumer rowsConsumer = new RowsConsumer(consumer);
+        XSSFSheetRowsHandler handler = new XSSFSheetRowsHandler(sharedStrings, dateStyles, date1904, rowsConsumer);
+        try (InputStream sheetStream = sheetParts.get(index).getInputStream()) {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(sheetStream));
+            notifySheetRead(index, handler.getRowsAmount(), start);
+            return handler.getRowsAmount();
+        } catch (RuntimeException e) {
+            if (rowsConsumer.isThrownByConsumer(e)) {
+                throw e;
+            }
+            throw new ExcelHandlingException("Could not read sheet " + index + " from file " + fileName, e);
+        } catch (Exception e) {
+            throw new ExcelHandlingException("Could not read sheet " + index + " from file " + fileName, e);
+        }
+    }
+
+    private static boolean[] readDateStyles(StylesTable styles) {
+        boolean[] dateStyles = new boolean[styles.getNumCellStyles()];
+        for (int i = 0; i < dateStyles.length; i++) {
+            XSSFCellStyle style = styles.getStyleAt(i);
+            dateStyles[i] = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+        return dateStyles;
+    }
+
+    /**
+     * Reads date system from workbook properties.
+     */
+    private static boolean readDate1904(InputStream workbookStream) throws Exception {
+        boolean[] date1904 = new boolean[1];
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if ("workbookPr".equals(localName)) {
+                    String value = attributes.getValue("date1904");
+                    date1904[0] = "1".equals(value) || "true".equals(value);
+                }
+            }
+        });
+        xmlReader.parse(new InputSource(workbookStream));
+        return date1904[0];
+    }
+
+    public void close() throws ExcelClosingException {
+        try {
+            opcPackage.revert();
+        } catch (Exception e) {
+            throw new ExcelClosingException("Cannot close file " + fileName, e);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.nadjannn.excel.handling;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConverterUtilTest {
+
+    private static final double[] VALUES = {0D, -0D, 1D, -1D, 10.5D, 0.1D, 1234.5678D, -98765.4321D, 0.0001D, 2.00001D,
+            1.0203045689E10D, 12345678.5D, 1E19D, -1E19D, 9.223372036854775807E18D, 1E-10D, Double.MAX_VALUE,
+            Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 43862.25D};
+
+    private final Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+
+    @After
+    public void restoreLocale() {
+        Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+    }
+
+    @Test
+    public void numbersShouldBeConvertedAsBefore() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH")}) {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+            for (double value : VALUES) {
+                for (boolean format : new boolean[] {true, false}) {
+                    String expected = convertAsBefore(value, format);
+                    assertEquals(locale + " " + value, expected, ConverterUtil.convertToString(value, format));
+                    assertEquals(locale + " " + value, "a" + expected,
+                            ConverterUtil.appendString(new StringBuilder("a"), value, format).toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void otherValuesShouldBeAppendedAsStrings() {
+        StringBuilder builder = new StringBuilder();
+        ConverterUtil.appendString(builder, "text", true);
+        ConverterUtil.appendString(builder, null, true);
+        ConverterUtil.appendString(builder, Boolean.TRUE, false);
+        assertEquals("texttrue", builder.toString());
+        assertEquals("", ConverterUtil.convertToString(null, false));
+    }
+
+    /**
+     * Previous conversion which created number format for every value.
+     */
+    private String convertAsBefore(Double value, boolean format) {
+        if (value.longValue() == value.doubleValue()) {
+            return ((Long) value.longValue()).toString();
+        }
+        String stringValue = format ? NumberFormat.getInstance().format(value) : value.toString();
+        if (stringValue.endsWith(".0") || stringValue.endsWith(",0")) {
+            stringValue = stringValue.substring(0, stringValue.length() - 2);
+        }
+        return stringValue;
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ExcelDateConverterTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final double[] SERIALS = {0D, 0.5D, 1D, 1.25D, 59D, 59.99D, 60D, 60.5D, 61D, 61.75D, 366D, 1462D,
+            25569D, 43862D, 43862.999999D, 43862.9999999999D, 44196.123456789D, 2958465.999D};
+
+    @Test
+    public void conversionShouldMatchPoiConversion() {
+        for (boolean date1904 : new boolean[] {false, true}) {
+            for (double serial : SERIALS) {
+                LocalDateTime expected = LocalDateTime.ofInstant(DateUtil.getJavaDate(serial, date1904, UTC).toInstant(), ZoneOffset.UTC);
+                String message = serial + " " + date1904;
+                assertEquals(message, expected, ExcelDateConverter.toLocalDateTime(serial, date1904));
+                assertEquals(message, expected.toLocalDate(), ExcelDateConverter.toLocalDate(serial, date1904));
+                assertEquals(message, expected.toLocalDate().toEpochDay(), ExcelDateConverter.toEpochDay(serial, date1904));
+                assertEquals(message, expected.toInstant(ZoneOffset.UTC).toEpochMilli(), ExcelDateConverter.toEpochMilli(serial, date1904));
+            }
+        }
+    }
+
+    @Test
+    public void dateSystemsShouldHaveDifferentStartDays() {
+        assertEquals(LocalDate.of(1900, 1, 1), ExcelDateConverter.toLocalDate(1D, false));
+        assertEquals(LocalDate.of(1904, 1, 1), ExcelDateConverter.toLocalDate(0D, true));
+        assertEquals(LocalDate.of(2020, 2, 1), ExcelDateConverter.toLocalDate(43862D, false));
+        assertFalse(ExcelDateConverter.isValid(-1D));
+    }
+
+}
@@ -1,11 +1,25 @@
 package io.github.nadjannn.excel.handling;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import com.sun.management.UnixOperatingSystemMXBean;
 import io.github.nadjannn.excel.handling.xssf.XSSFExcelFile;
 import io.github.nadjannn.excel.handling.hssf.HSSFExcelFile;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Paths;
+
 public class ExcelFileFactoryTest {
 
     @Test(expected = ExcelHandlingException.class)
@@ -29,15 +43,153 @@ public class ExcelFileFactoryTest {
     }
 
     @Test
-    public void whenFileNameIsXlsxShouldReturnXSSFFile() {
-        ExcelFile excelFile = ExcelFileFactory.openExcelFile(getFullPathName("xssfFormat.xlsx"), HandlingType.READ);
-        assertTrue(excelFile instanceof XSSFExcelFile);
+    public void whenFileNameIsXlsxShouldReturnXSSFFile() throws ExcelClosingException {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(getFullPathName("xssfFormat.xlsx"), HandlingType.READ)) {
+            assertTrue(excelFile instanceof XSSFExcelFile);
+        }
+    }
+
+    @Test
+    public void whenFileNameIsXlsShouldReturnHSSFFile() throws ExcelClosingException {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(getFullPathName("hssfFormat.xls"), HandlingType.READ)) {
+            assertTrue(excelFile instanceof HSSFExcelFile);
+        }
+    }
+
+    @Test
+    public void fileShouldBeOpenedByPath() throws ExcelClosingException {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFileByPath(Paths.get(getFullPathName("xssfFormat.xlsx")), HandlingType.READ)) {
+            assertEquals("text1", excelFile.getCellValueString(1, 0));
+        }
+    }
+
+    @Test
+    public void fileShouldBeOpenedByFile() throws ExcelClosingException {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFileByPath(new File(getFullPathName("hssfFormat.xls")).toPath(), HandlingType.READ)) {
+            assertEquals("text1", excelFile.getCellValueString(1, 0));
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void whenPathIsNullShouldThrowException() {
+        ExcelFileFactory.openExcelFileByPath(null, HandlingType.READ);
+    }
+
+    @Test
+    public void closedFilesShouldReleaseFileDescriptors() throws ExcelClosingException {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        assumeTrue(os instanceof UnixOperatingSystemMXBean);
+        UnixOperatingSystemMXBean unixOs = (UnixOperatingSystemMXBean) os;
+        openAndClose();
+        long openedBefore = unixOs.getOpenFileDescriptorCount();
+        for (int i = 0; i < 20; i++) {
+            openAndClose();
+        }
+        assertTrue(unixOs.getOpenFileDescriptorCount() - openedBefore < 5);
+    }
+
+    @Test
+    public void fileTypeShouldBeDetectedFromContent() throws Exception {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(readBytes("hssfFormat.xls"))) {
+            assertTrue(excelFile instanceof HSSFExcelFile);
+            assertEquals("text1", excelFile.getCellValueString(1, 0));
+        }
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(new ByteArrayInputStream(readBytes("xssfFormat.xlsx")))) {
+            assertTrue(excelFile instanceof XSSFExcelFile);
+            assertEquals("text1", excelFile.getCellValueString(1, 0));
+        }
     }
 
     @Test
-    public void whenFileNameIsXlsShouldReturnHSSFFile() {
-        ExcelFile excelFile = ExcelFileFactory.openExcelFile(getFullPathName("hssfFormat.xls"), HandlingType.READ);
-        assertTrue(excelFile instanceof HSSFExcelFile);
+    public void fileShouldBeOpenedFromDirectBuffer() throws Exception {
+        byte[] bytes = readBytes("xssfFormat.xlsx");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(buffer)) {
+            assertEquals(2, excelFile.getSheetsAmount());
+        }
+        assertEquals(0, buffer.position());
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void whenContentIsNotExcelShouldThrowException() {
+        ExcelFileFactory.openExcelFile("some text".getBytes());
+    }
+
+    @Test
+    public void inMemoryFileShouldBeWrittenToStreamAndChannel() throws Exception {
+        for (ExcelFormat format : ExcelFormat.values()) {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            ByteArrayOutputStream channelStream = new ByteArrayOutputStream();
+            try (ExcelFile excelFile = ExcelFileFactory.createExcelFile(format)) {
+                excelFile.writeRow(0, "value", 1.5D);
+                excelFile.writeTo(stream);
+                excelFile.writeTo(Channels.newChannel(channelStream));
+            }
+            for (ByteArrayOutputStream content : new ByteArrayOutputStream[] {stream, channelStream}) {
+                try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(content.toByteArray())) {
+                    assertEquals("value", excelFile.getCellValueString(0, 0));
+                    assertEquals(1.5D, excelFile.getCellValueDouble(0, 1).get(), 0.0D);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void listenerShouldReceiveInMemoryAndStreamingMetrics() throws Exception {
+        long[] bytes = new long[2];
+        int[] rowsAmount = new int[1];
+        ExcelFileFactory.setListener(new ExcelFileListener() {
+            @Override
+            public void onLoad(String fileName, long bytesRead, long durationNanos) {
+                bytes[0] = bytesRead;
+            }
+
+            @Override
+            public void onSheetRead(String fileName, String sheetName, int amount, long durationNanos) {
+                rowsAmount[0] = amount;
+            }
+
+            @Override
+            public void onSave(String fileName, long bytesWritten, long durationNanos) {
+                bytes[1] = bytesWritten;
+            }
+        });
+        try {
+            for (String fileName : new String[] {"xssfFormat.xlsx", "hssfFormat.xls"}) {
+                byte[] content = readBytes(fileName);
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(new ByteArrayInputStream(content))) {
+                    assertEquals(content.length, bytes[0]);
+                    excelFile.writeTo(output);
+                    assertEquals(output.size(), bytes[1]);
+                }
+                try (ExcelStreamingReader reader = ExcelFileFactory.openStreamingReader(getFullPathName(fileName))) {
+                    assertEquals(content.length, bytes[0]);
+                    int[] consumed = new int[1];
+                    reader.readRows(row -> consumed[0]++);
+                    assertEquals(consumed[0], rowsAmount[0]);
+                }
+            }
+        } finally {
+            ExcelFileFactory.setListener(null);
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void inMemoryFileShouldNotBeSavedAsynchronously() {
+        ExcelFileFactory.createExcelFile(ExcelFormat.XSSF).saveAsync(Runnable::run);
+    }
+
+    private byte[] readBytes(String fileName) throws IOException {
+        return Files.readAllBytes(Paths.get(getFullPathName(fileName)));
+    }
+
+    private void openAndClose() throws ExcelClosingException {
+        for (String fileName : new String[] {"xssfFormat.xlsx", "hssfFormat.xls"}) {
+            ExcelFileFactory.openExcelFile(getFullPathName(fileName), HandlingType.READ).close();
+            ExcelFileFactory.openStreamingReaderByPath(Paths.get(getFullPathName(fileName))).close();
+        }
     }
 
     private String getFullPathName(String fileName) {
@@ -1,16 +1,25 @@
 package io.github.nadjannn.excel.handling;
 
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.junit.After;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public abstract class ExcelFileReadingTest {
@@ -27,6 +36,16 @@ public abstract class ExcelFileReadingTest {
         assertEquals(2, excelFile.getSheetsAmount());
     }
 
+    @Test(expected = ExcelHandlingException.class)
+    public void fileOpenedFromDiskShouldNotBeWrittenToStream() {
+        excelFile.writeTo(new ByteArrayOutputStream());
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void fileOpenedFromDiskShouldNotBeWrittenToChannel() {
+        excelFile.writeTo(Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
     @Test
     public void otherSheetShouldBeLoaded() {
         excelFile.loadSheet(1);
@@ -154,6 +173,127 @@ public abstract class ExcelFileReadingTest {
         }
     }
 
+    @Test
+    public void readRowShouldReturnAllCellsOfRow() {
+        RowValues row = excelFile.readRow(3);
+        assertEquals(3, row.getRowNum());
+        assertEquals(excelFile.getLastColumnNumber(3), row.size());
+        for (int column = 0; column < row.size(); column++) {
+            assertEquals(excelFile.getCellValue(3, column), row.getCellValue(column));
+        }
+        assertEquals("string", row.getCellValueString(3));
+    }
+
+    @Test
+    public void readRowShouldReuseRowValues() {
+        RowValues row = excelFile.readRow(3);
+        assertSame(row, excelFile.readRow(10, row));
+        assertEquals(10, row.getRowNum());
+        assertEquals(0, row.size());
+        assertFalse(row.getCellValue(0).isPresent());
+    }
+
+    @Test
+    public void rowsShouldStreamAllRowsOfSheet() {
+        List<RowValues> rows = excelFile.rows().collect(Collectors.toList());
+        assertEquals(excelFile.getLastRowNum() + 1, rows.size());
+        for (RowValues row : rows) {
+            assertEquals(excelFile.getLastColumnNumber(row.getRowNum()), row.size());
+        }
+        assertEquals("string", rows.get(3).getCellValueString(3));
+    }
+
+    @Test
+    public void rowsInRangeShouldBeStreamedInParallel() {
+        List<Integer> rowNumbers = excelFile.rows(1, 4).parallel().map(RowValues::getRowNum).collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 2, 3), rowNumbers);
+        assertEquals(100, excelFile.rows(0, 100).parallel().count());
+    }
+
+    @Test
+    public void snapshotShouldKeepValuesOfAllTypes() {
+        SheetSnapshot snapshot = excelFile.snapshot();
+        assertEquals(excelFile.getLastRowNum(), snapshot.getLastRowNum());
+        for (int row = snapshot.getFirstRowNum(); row <= snapshot.getLastRowNum(); row++) {
+            for (int column = 0; column < snapshot.getColumnsAmount(); column++) {
+                Optional<Object> value = excelFile.getCellValue(row, column);
+                if (snapshot.getType(row, column) == CellType.NUMERIC) {
+                    assertEquals((Double) value.get(), snapshot.getDouble(row, column, -1D), 0D);
+                } else if (snapshot.getType(row, column) == CellType.STRING) {
+                    assertEquals(value.get(), snapshot.getString(row, column));
+                } else if (snapshot.getType(row, column) == CellType.BOOLEAN) {
+                    assertEquals(value.get(), snapshot.getBoolean(row, column, false));
+                } else {
+                    assertTrue(snapshot.isBlank(row, column));
+                    assertEquals("", value.map(Object::toString).orElse(""));
+                }
+            }
+        }
+        assertEquals("text1", snapshot.getString(1, 0));
+        assertTrue(snapshot.getBoolean(3, 5, false));
+        assertEquals(-1D, snapshot.getDouble(3, 3, -1D), 0D);
+        assertTrue(snapshot.isBlank(2, 0));
+        assertTrue(snapshot.isBlank(100, 100));
+        assertEquals(1, snapshot.indexOf(0, "text1"));
+        assertEquals(3, snapshot.indexOf(4, 45D));
+        assertEquals(-1, snapshot.indexOf(0, "absent"));
+    }
+
+    @Test
+    public void snapshotShouldContainOnlyRowsFromRange() {
+        SheetSnapshot snapshot = excelFile.snapshot(1, 2);
+        assertEquals(1, snapshot.getFirstRowNum());
+        assertEquals(1, snapshot.getLastRowNum());
+        assertEquals("text1", snapshot.getString(1, 0));
+        assertTrue(snapshot.isBlank(0, 0));
+        assertEquals(1, snapshot.getDictionarySize());
+    }
+
+    @Test
+    public void rowCursorShouldReadPrimitiveValues() {
+        RowCursor cursor = excelFile.rowCursor();
+        assertEquals(-1, cursor.getRowNum());
+        assertTrue(cursor.next());
+        assertEquals(10D, cursor.getDouble(0, -1D), 0D);
+        assertEquals(10L, cursor.getLong(1, -1L));
+        assertTrue(cursor.moveTo(3));
+        assertEquals(CellType.NUMERIC, cursor.typeOf(0));
+        assertEquals(20D, cursor.getDouble(0, -1D), 0D);
+        assertEquals(CellType.STRING, cursor.typeOf(3));
+        assertEquals("string", cursor.getString(3));
+        assertEquals(-1D, cursor.getDouble(3, -1D), 0D);
+        assertTrue(cursor.getBoolean(5, false));
+        assertEquals(45.5D, cursor.getDouble(6, -1D), 0D);
+        assertTrue(cursor.isBlank(20));
+        assertFalse(cursor.moveTo(100));
+        assertTrue(cursor.isBlank(0));
+        assertEquals(0, cursor.getLastColumnNumber());
+    }
+
+    @Test
+    public void rowCursorShouldVisitAllRows() {
+        RowCursor cursor = excelFile.rowCursor();
+        int rows = 0;
+        while (cursor.next()) {
+            assertEquals(excelFile.getLastColumnNumber(cursor.getRowNum()), cursor.getLastColumnNumber());
+            rows++;
+        }
+        assertEquals(excelFile.getLastRowNum() + 1, rows);
+    }
+
+    @Test
+    public void dateCellShouldBeReadAsLocalDate() {
+        assertFalse(excelFile.isDate1904());
+        assertEquals(LocalDate.of(2020, 2, 1), excelFile.getCellValueLocalDate(3, 7).get());
+        assertEquals(LocalDateTime.of(2020, 2, 1, 0, 0), excelFile.getCellValueLocalDateTime(3, 7).get());
+        assertFalse(excelFile.getCellValueLocalDate(3, 3).isPresent());
+        assertEquals(LocalDate.of(2020, 2, 1), excelFile.readRow(3).getCellValueLocalDate(7).get());
+        RowCursor cursor = excelFile.rowCursor();
+        cursor.moveTo(3);
+        assertEquals(LocalDate.of(2020, 2, 1).toEpochDay(), cursor.getEpochDay(7, -1L));
+        assertEquals(-1L, cursor.getEpochMilli(3, -1L));
+    }
+
     @Test
     public void lastColumnNumberShouldReturnProperValue() {
         assertEquals(9, excelFile.getLastColumnNumber(3));
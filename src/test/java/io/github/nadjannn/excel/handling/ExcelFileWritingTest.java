@@ -1,17 +1,31 @@
 package io.github.nadjannn.excel.handling;
 
+import org.apache.poi.ss.usermodel.DataValidation;
 import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellRangeAddress;
 import org.junit.After;
 import org.junit.Test;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public abstract class ExcelFileWritingTest {
 
@@ -19,6 +33,7 @@ public abstract class ExcelFileWritingTest {
 
     @After
     public void removeFile() {
+        ExcelFileFactory.setListener(null);
         File file = new File(fileName);
         if (file.exists()) {
             new File(fileName).delete();
@@ -80,6 +95,231 @@ public abstract class ExcelFileWritingTest {
         assertEquals(now, DateUtil.getJavaDate((Double) getValueFromFile().get()));
     }
 
+    @Test
+    public void dateStylesShouldBeReused() throws Exception {
+        applyToFile(excelFile -> {
+            int stylesAmount = excelFile.getWorkbook().getNumCellStyles();
+            for (int row = 0; row < 1000; row++) {
+                excelFile.setCellValueDate(row, 0, new Date());
+                excelFile.setCellValueDate(row, 1, new Date(), "m/d/yy");
+            }
+            assertEquals(stylesAmount + 2, excelFile.getWorkbook().getNumCellStyles());
+            assertEquals(2, excelFile.getStyleRegistry().size());
+        });
+    }
+
+    @Test
+    public void writeRowShouldSetValuesOfAllTypes() throws Exception {
+        Date now = new Date();
+        applyToFile(excelFile -> excelFile.writeRow(0, "text", 40.7D, 12, true, now, null, 'c'));
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            RowValues row = excelFile.readRow(0);
+            assertEquals("text", row.getCellValueString(0));
+            assertEquals(0, Double.compare(40.7D, row.getCellValueDouble(1).get()));
+            assertEquals("12", row.getCellValueString(2));
+            assertEquals(true, row.getCellValueBoolean(3).get());
+            assertEquals(now, row.getCellValueDate(4).get());
+            assertFalse(row.getCellValue(5).isPresent());
+            assertEquals("c", row.getCellValueString(6));
+        }
+    }
+
+    @Test
+    public void appendRowsShouldWriteAfterLastRow() throws Exception {
+        applyToFile(excelFile -> {
+            excelFile.setCellValueString(0, 0, "header");
+            assertEquals(2, excelFile.appendRows(Arrays.asList(new Object[]{1, "one"}, new Object[]{2, "two"})));
+            assertEquals(1, excelFile.appendRows(Stream.of(Arrays.asList(3, "three"))));
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals(3, excelFile.getLastRowNum());
+            assertEquals("header", excelFile.getCellValueString(0, 0));
+            assertEquals("two", excelFile.getCellValueString(2, 1));
+            assertEquals("3", excelFile.getCellValueString(3, 0));
+        }
+    }
+
+    @Test
+    public void formulasShouldBeReevaluatedAfterValuesChange() throws Exception {
+        applyToFile(excelFile -> {
+            excelFile.setFormulaEvaluation(true);
+            excelFile.writeRow(0, 2D, 3D);
+            excelFile.setCellFormula(0, 2, "A1*B1");
+            excelFile.setCellFormula(0, 3, "IF(C1>10,\"big\",\"small\")");
+            excelFile.setCellFormula(0, 4, "A1/0");
+            assertEquals(6D, excelFile.getCellValueDouble(0, 2).get(), 0D);
+            assertEquals("small", excelFile.getCellValueString(0, 3));
+            assertEquals(FormulaError.DIV0.getCode(), excelFile.<Byte>getCellValue(0, 4).get().byteValue());
+            excelFile.setCellValueDouble(0, 1, 5D);
+            excelFile.writeRow(1, 1D);
+            assertEquals(10D, excelFile.getCellValueDouble(0, 2).get(), 0D);
+            assertEquals("small", excelFile.getCellValueString(0, 3));
+            excelFile.writeRow(0, 4D);
+            assertEquals(20D, excelFile.getCellValueDouble(0, 2).get(), 0D);
+            assertEquals("big", excelFile.getCellValueString(0, 3));
+        });
+    }
+
+    @Test
+    public void evaluatedFormulasShouldBeSavedWithFile() throws Exception {
+        applyToFile(excelFile -> {
+            excelFile.setCellValueDouble(0, 1, 4D);
+            excelFile.setCellFormula(0, 0, "B1*2");
+            excelFile.evaluateAll();
+        });
+        assertEquals(8D, (Double) getValueFromFile().get(), 0D);
+    }
+
+    @Test
+    public void javaTimeValuesShouldBeSet() throws Exception {
+        LocalDate date = LocalDate.of(2021, 3, 14);
+        LocalDateTime dateTime = LocalDateTime.of(2021, 3, 14, 15, 9, 26);
+        applyToFile(excelFile -> {
+            excelFile.setCellValueDate(0, 0, date);
+            excelFile.setCellValueDate(0, 1, dateTime, "m/d/yy h:mm");
+            excelFile.writeRow(1, date, dateTime);
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals(date, excelFile.getCellValueLocalDate(0, 0).get());
+            assertEquals(dateTime, excelFile.getCellValueLocalDateTime(0, 1).get());
+            assertEquals(date, excelFile.getCellValueLocalDate(1, 0).get());
+            assertEquals(dateTime, excelFile.getCellValueLocalDateTime(1, 1).get());
+            assertEquals("m/d/yy h:mm", excelFile.getExcelRow(0).get().getCell(1).getCellStyle().getDataFormatString());
+            assertEquals(ExcelFileAbstract.DEFAULT_DATE_TIME_FORMAT, excelFile.getExcelRow(1).get().getCell(1).getCellStyle().getDataFormatString());
+        }
+    }
+
+    @Test
+    public void dropDownListsWithIdenticalOptionsShouldBeMerged() throws Exception {
+        List<String> options = Arrays.asList("one", "two", "three");
+        applyToFile(excelFile -> {
+            for (int row = 0; row < 500; row++) {
+                excelFile.setCellDropDownList(row, 0, options);
+                excelFile.setCellDropDownList(row, 1, options);
+            }
+            excelFile.setDropDownList(new CellRangeAddress(500, 999, 0, 1), options);
+            excelFile.setCellDropDownList(0, 3, Arrays.asList("yes", "no"));
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            List<? extends DataValidation> validations = excelFile.getCurrentSheet().getDataValidations();
+            assertEquals(2, validations.size());
+            for (DataValidation validation : validations) {
+                CellRangeAddress[] ranges = validation.getRegions().getCellRangeAddresses();
+                assertEquals(1, ranges.length);
+                if (ranges[0].getFirstColumn() == 0) {
+                    assertEquals("A1:B1000", ranges[0].formatAsString());
+                    assertEquals(options, Arrays.asList(validation.getValidationConstraint().getExplicitListValues()));
+                } else {
+                    assertEquals("D1", ranges[0].formatAsString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void longDropDownListShouldBeWrittenIntoHiddenSheet() throws Exception {
+        List<String> options = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            options.add("option" + i);
+        }
+        applyToFile(excelFile -> {
+            excelFile.setDropDownList(new CellRangeAddress(0, 10, 0, 0), options);
+            excelFile.setDropDownList(new CellRangeAddress(0, 10, 2, 2), options);
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals(2, excelFile.getSheetsAmount());
+            assertTrue(excelFile.getWorkbook().isSheetHidden(1));
+            List<? extends DataValidation> validations = excelFile.getCurrentSheet().getDataValidations();
+            assertEquals(1, validations.size());
+            assertEquals(2, validations.get(0).getRegions().countRanges());
+            String listName = validations.get(0).getValidationConstraint().getFormula1();
+            String reference = excelFile.getWorkbook().getName(listName).getRefersToFormula();
+            // Sheet name is quoted by XSSF only.
+            assertEquals("_dropDownLists!$A$1:$A$100", reference.replace("'", ""));
+            excelFile.loadSheet(1);
+            assertEquals("option99", excelFile.getCellValueString(99, 0));
+        }
+    }
+
+    @Test
+    public void listenerShouldReceiveSessionMetrics() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        ExcelFileFactory.setListener(listener);
+        applyToFile(excelFile -> {
+            excelFile.writeRow(0, "a", 1.0D);
+            excelFile.writeRow(1, "b", null, true);
+            excelFile.setCellValueString(2, 0, "c");
+            excelFile.setCellDropDownList(2, 1, Arrays.asList("x", "y"));
+        });
+        assertEquals(new File(fileName).length(), listener.bytesWritten);
+        assertEquals(2, listener.statistics.getRowsWritten());
+        assertEquals(5, listener.statistics.getCellsWritten());
+        assertEquals(1, listener.statistics.getValidationsAmount());
+        assertTrue(listener.statistics.getStylesAmount() > 0);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals(new File(fileName).length(), listener.bytesRead);
+            excelFile.readRow(0);
+            excelFile.getCellValue(2, 0);
+            excelFile.snapshot();
+        }
+        assertEquals("Sheet1", listener.sheetName);
+        assertEquals(3, listener.rowsAmount);
+        assertEquals(4, listener.statistics.getRowsRead());
+        assertEquals(8, listener.statistics.getCellsRead());
+    }
+
+    @Test
+    public void fileShouldBeSavedAsynchronouslyWithoutTemporaryFiles() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ExcelFile excelFile = openFileForWriting();
+            excelFile.setCellValueString(0, 0, "first");
+            Path path = excelFile.saveAsync(executor).get();
+            assertEquals(new File(fileName).getAbsoluteFile().toPath(), path);
+            try (ExcelFile savedFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+                assertEquals("first", savedFile.getCellValueString(0, 0));
+            }
+            assertEquals(path, excelFile.closeAsync(executor).get());
+        } finally {
+            executor.shutdown();
+        }
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals("first", excelFile.getCellValueString(0, 0));
+        }
+        File[] tempFiles = new File(fileName).getAbsoluteFile().getParentFile().listFiles((dir, name) -> name.endsWith(".tmp"));
+        assertEquals(0, tempFiles.length);
+    }
+
+    @Test
+    public void closingShouldWaitForAsynchronousSaving() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        ExcelFile excelFile = openFileForWriting();
+        excelFile.setCellValueString(0, 0, "first");
+        CompletableFuture<Path> saving = excelFile.saveAsync(tasks::add);
+        CompletableFuture<Path> closing = excelFile.closeAsync(tasks::add);
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertTrue(saving.isDone());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(saving.get(), closing.get());
+        try (ExcelFile savedFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals("first", savedFile.getCellValueString(0, 0));
+        }
+    }
+
+    @Test
+    public void fileShouldBeChangeableAfterSaving() throws Exception {
+        applyToFile(excelFile -> {
+            excelFile.setCellValueString(0, 0, "first");
+            excelFile.saveAsync(Runnable::run).join();
+            excelFile.setCellValueString(1, 0, "second");
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals("second", excelFile.getCellValueString(1, 0));
+        }
+    }
+
     @Test
     public void addingANewSheetShouldBeSuccessful() throws Exception {
         applyToFile(excelFile -> excelFile.addAndLoadSheet());
@@ -115,8 +355,12 @@ public abstract class ExcelFileWritingTest {
         applyToFile(excelFile -> assertEquals(0, excelFile.getCurrentSheetIndex()));
     }
 
-    private void applyToFile(Consumer<ExcelFile> consumer) throws Exception {
-        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.WRITE)) {
+    protected ExcelFile openFileForWriting() {
+        return ExcelFileFactory.openExcelFile(fileName, HandlingType.WRITE);
+    }
+
+    protected void applyToFile(Consumer<ExcelFile> consumer) throws Exception {
+        try (ExcelFile excelFile = openFileForWriting()) {
             consumer.accept(excelFile);
         } catch (Exception e) {
             throw e;
@@ -139,7 +383,7 @@ public abstract class ExcelFileWritingTest {
         applyToFile(excelFile -> excelFile.setCellValueDate(0, 0, value));
     }
 
-    private <T> Optional<T> getValueFromFile() throws Exception {
+    protected <T> Optional<T> getValueFromFile() throws Exception {
         try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
             return excelFile.getCellValue(0, 0);
         } catch (Exception e) {
@@ -147,4 +391,39 @@ public abstract class ExcelFileWritingTest {
         }
     }
 
+    private static class RecordingListener implements ExcelFileListener {
+
+        private long bytesRead;
+
+        private long bytesWritten;
+
+        private String sheetName;
+
+        private int rowsAmount;
+
+        private ExcelFileStatistics statistics;
+
+        @Override
+        public void onLoad(String fileName, long bytesRead, long durationNanos) {
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public void onSheetRead(String fileName, String sheetName, int rowsAmount, long durationNanos) {
+            this.sheetName = sheetName;
+            this.rowsAmount = rowsAmount;
+        }
+
+        @Override
+        public void onSave(String fileName, long bytesWritten, long durationNanos) {
+            this.bytesWritten = bytesWritten;
+        }
+
+        @Override
+        public void onClose(String fileName, ExcelFileStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+    }
+
 }
@@ -0,0 +1,90 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public abstract class ExcelStreamingReaderTest {
+
+    protected String fileName;
+
+    protected ExcelStreamingReader reader;
+
+    @After
+    public void closeFile() throws ExcelClosingException {
+        reader.close();
+    }
+
+    @Test
+    public void numberOfSheetsShouldBeTakenFromFile() {
+        assertEquals(2, reader.getSheetsAmount());
+        assertEquals("Sheet1", reader.getSheetName());
+    }
+
+    @Test
+    public void streamedRowsShouldBeEqualToReadCells() throws Exception {
+        List<RowValues> rows = readAllRows();
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            int previousRow = -1;
+            for (RowValues row : rows) {
+                assertEquals(true, row.getRowNum() > previousRow);
+                previousRow = row.getRowNum();
+                assertEquals(excelFile.getLastColumnNumber(row.getRowNum()), row.size());
+                for (int column = 0; column < row.size(); column++) {
+                    assertEquals(excelFile.getCellValue(row.getRowNum(), column), row.getCellValue(column));
+                }
+            }
+            assertEquals(excelFile.getLastRowNum(), previousRow);
+        }
+    }
+
+    @Test
+    public void typedConversionsShouldWorkOnStreamedRow() {
+        RowValues row = findRow(readAllRows(), 3);
+        assertEquals("20", row.getCellValueString(0));
+        assertEquals(0, Double.compare(0D, row.getCellValueDouble(1).get()));
+        assertEquals("string", row.getCellValueString(3));
+        assertEquals(true, row.getCellValueBoolean(5).get());
+        assertEquals("45.5", row.getCellValueString(6));
+        assertEquals(DateUtil.getJavaDate(43862D), row.getCellValueDate(7).get());
+        assertEquals("10203045689", row.getCellValueString(8));
+        assertFalse(row.getCellValueDouble(3).isPresent());
+        assertEquals("", row.getCellValueString(10));
+    }
+
+    @Test
+    public void otherSheetShouldBeRead() {
+        reader.loadSheet(1);
+        assertEquals(1, reader.getCurrentSheetIndex());
+        readAllRows();
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void loadingOfAbsentSheetShouldThrowException() {
+        reader.loadSheet(2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exceptionOfConsumerShouldNotBeWrapped() {
+        reader.readRows(row -> {
+            throw new IllegalStateException();
+        });
+    }
+
+    private List<RowValues> readAllRows() {
+        List<RowValues> rows = new ArrayList<>();
+        reader.readRows(row -> rows.add(row.copy()));
+        return rows;
+    }
+
+    private RowValues findRow(List<RowValues> rows, int rowNum) {
+        return rows.stream().filter(row -> row.getRowNum() == rowNum).findFirst().get();
+    }
+
+}
@@ -1,9 +1,14 @@
 package io.github.nadjannn.excel.handling;
 
+import com.sun.management.ThreadMXBean;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 public class HSSFExcelFileReadingTest extends ExcelFileReadingTest {
 
@@ -18,4 +23,33 @@ public class HSSFExcelFileReadingTest extends ExcelFileReadingTest {
         assertEquals(3, excelFile.getNumberOfRows());
     }
 
+    @Test
+    public void rowCursorShouldNotAllocateOnNumericReads() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+        RowCursor cursor = excelFile.rowCursor();
+        readNumbers(cursor, 100_000);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        double sum = readNumbers(cursor, 1_000_000);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertTrue(sum > 0);
+        // A few bytes may be allocated by the measurement itself, it does not depend on 9 million read cells.
+        assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    private double readNumbers(RowCursor cursor, int iterations) {
+        double sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            cursor.moveTo(i & 3);
+            for (int column = 0; column < 9; column++) {
+                if (!cursor.isBlank(column)) {
+                    sum += cursor.getDouble(column, 0D) + cursor.getLong(column, 0L);
+                }
+            }
+        }
+        return sum;
+    }
+
 }
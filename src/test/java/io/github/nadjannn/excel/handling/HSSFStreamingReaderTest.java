@@ -0,0 +1,52 @@
+package io.github.nadjannn.excel.handling;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class HSSFStreamingReaderTest extends ExcelStreamingReaderTest {
+
+    @Before
+    public void init() {
+        fileName = getClass().getClassLoader().getResource("hssfFormat.xls").getFile();
+        reader = ExcelFileFactory.openStreamingReader(fileName);
+    }
+
+    @Test
+    public void runsOfBlankCellsShouldBeRead() throws Exception {
+        File file = File.createTempFile("blanks", ".xls");
+        try {
+            try (HSSFWorkbook workbook = new HSSFWorkbook(); FileOutputStream stream = new FileOutputStream(file)) {
+                CellStyle style = workbook.createCellStyle();
+                Row row = workbook.createSheet().createRow(0);
+                row.createCell(0).setCellValue("a");
+                for (int column = 1; column < 4; column++) {
+                    row.createCell(column).setCellStyle(style);
+                }
+                row.createCell(4).setCellValue(1D);
+                workbook.write(stream);
+            }
+            List<Object> values = new ArrayList<>();
+            try (ExcelStreamingReader streamingReader = ExcelFileFactory.openStreamingReader(file.getPath())) {
+                streamingReader.readRows(row -> values.addAll(Arrays.asList(row.toArray())));
+            }
+            try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(file.getPath(), HandlingType.READ)) {
+                assertEquals(Arrays.asList(excelFile.readRow(0).toArray()), values);
+            }
+            assertEquals(Arrays.asList("a", "", "", "", 1D), values);
+        } finally {
+            file.delete();
+        }
+    }
+
+}
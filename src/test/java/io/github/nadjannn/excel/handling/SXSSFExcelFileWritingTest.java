@@ -0,0 +1,79 @@
+package io.github.nadjannn.excel.handling;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class SXSSFExcelFileWritingTest extends ExcelFileWritingTest {
+
+    private static final int ROW_WINDOW_SIZE = 10;
+
+    @Before
+    public void init() {
+        fileName = "sxssf.xlsx";
+    }
+
+    @Override
+    protected ExcelFile openFileForWriting() {
+        return ExcelFileFactory.openStreamingWriter(fileName, ROW_WINDOW_SIZE);
+    }
+
+    @Override
+    @Test(expected = ExcelHandlingException.class)
+    public void fileShouldBeChangeableAfterSaving() throws Exception {
+        super.fileShouldBeChangeableAfterSaving();
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void fileShouldNotBeChangedAfterWritingToStream() throws Exception {
+        applyToFile(excelFile -> {
+            excelFile.setCellValueString(0, 0, "first");
+            excelFile.writeTo(new ByteArrayOutputStream());
+            excelFile.setCellValueString(1, 0, "second");
+        });
+    }
+
+    @Test
+    public void rowsOutsideOfWindowShouldBeFlushedAndSaved() throws Exception {
+        applyToFile(excelFile -> {
+            for (int row = 0; row < 1000; row++) {
+                excelFile.setCellValueDouble(row, 0, (double) row);
+            }
+            assertNull(excelFile.getCurrentSheet().getRow(999 - ROW_WINDOW_SIZE));
+            assertNotNull(excelFile.getCurrentSheet().getRow(1000 - ROW_WINDOW_SIZE));
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals(999, excelFile.getLastRowNum());
+            assertEquals(0, Double.compare(500D, excelFile.getCellValueDouble(500, 0).get()));
+        }
+    }
+
+    @Test
+    public void rowsInsideOfWindowShouldBeChangeable() throws Exception {
+        applyToFile(excelFile -> {
+            for (int row = 0; row < 100; row++) {
+                excelFile.setCellValueDouble(row, 0, (double) row);
+            }
+            excelFile.setCellValueString(90, 1, "text");
+        });
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.READ)) {
+            assertEquals("text", excelFile.getCellValueString(90, 1));
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void writingIntoFlushedRowShouldThrowException() throws Exception {
+        applyToFile(excelFile -> {
+            for (int row = 0; row < 100; row++) {
+                excelFile.setCellValueDouble(row, 0, (double) row);
+            }
+            excelFile.setCellValueString(0, 1, "text");
+        });
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.github.nadjannn.excel.handling;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SharedExcelWorkbookTest {
+
+    @Test
+    public void cursorsShouldReadDifferentSheetsIndependently() throws Exception {
+        for (String fileName : new String[]{"hssfFormat.xls", "xssfFormat.xlsx"}) {
+            try (SharedExcelWorkbook workbook = ExcelFileFactory.openSharedWorkbook(getFullPathName(fileName))) {
+                SheetCursor first = workbook.cursor(0);
+                SheetCursor second = workbook.cursor(1);
+                assertEquals("string", first.getCellValueString(3, 3));
+                assertEquals("20", second.getCellValueString(0, 0));
+                assertEquals("Sheet1", first.getSheetName());
+                assertEquals(1, second.getCurrentSheetIndex());
+            }
+        }
+    }
+
+    @Test
+    public void cursorsShouldReadConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (SharedExcelWorkbook workbook = ExcelFileFactory.openSharedWorkbook(getFullPathName("xssfFormat.xlsx"))) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int task = 0; task < 64; task++) {
+                int sheetIndex = task % 2;
+                results.add(executor.submit(() -> {
+                    SheetCursor cursor = workbook.cursor(sheetIndex);
+                    StringBuilder text = new StringBuilder();
+                    for (int i = 0; i < 100; i++) {
+                        text.setLength(0);
+                        cursor.rows().forEach(row -> text.append(row.getCellValueString(0)).append(';'));
+                    }
+                    return text.toString();
+                }));
+            }
+            for (int task = 0; task < results.size(); task++) {
+                String expected = task % 2 == 0 ? "10;text1;;20;" : "20;text2;";
+                assertEquals(expected, results.get(task).get().substring(0, expected.length()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void cursorsShouldReadCachedFormulaValuesConcurrently() throws Exception {
+        File file = File.createTempFile("sharedFormulas", ".xlsx");
+        file.deleteOnExit();
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(file.getPath(), HandlingType.WRITE)) {
+            for (int row = 0; row < 100; row++) {
+                excelFile.setCellValueDouble(row, 0, (double) row);
+                excelFile.setCellFormula(row, 1, "A" + (row + 1) + "*2");
+            }
+            excelFile.evaluateAll();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        ExcelFile excelFile = ExcelFileFactory.openExcelFile(file.getPath(), HandlingType.READ);
+        excelFile.setFormulaEvaluation(true);
+        try (SharedExcelWorkbook workbook = new SharedExcelWorkbook(excelFile)) {
+            assertFalse(excelFile.isFormulaEvaluation());
+            List<Future<Double>> results = new ArrayList<>();
+            for (int task = 0; task < 64; task++) {
+                results.add(executor.submit(() -> {
+                    SheetCursor cursor = workbook.cursor();
+                    double sum = 0;
+                    for (int row = 0; row < 100; row++) {
+                        sum += cursor.getCellValueDouble(row, 1).get();
+                    }
+                    return sum;
+                }));
+            }
+            for (Future<Double> result : results) {
+                assertEquals(9900D, result.get(), 0D);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void formulaEvaluationShouldNotBeEnabledForSharedFile() throws Exception {
+        ExcelFile excelFile = ExcelFileFactory.openExcelFile(getFullPathName("xssfFormat.xlsx"), HandlingType.READ);
+        try (SharedExcelWorkbook workbook = new SharedExcelWorkbook(excelFile)) {
+            assertEquals(2, workbook.getSheetsAmount());
+            excelFile.setFormulaEvaluation(true);
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void fileOpenedForWritingShouldNotBeShared() throws Exception {
+        // In-memory file is opened for writing and is not saved on close.
+        try (ExcelFile excelFile = ExcelFileFactory.createExcelFile(ExcelFormat.XSSF)) {
+            new SharedExcelWorkbook(excelFile);
+        }
+    }
+
+    private String getFullPathName(String fileName) {
+        return getClass().getClassLoader().getResource(fileName).getFile();
+    }
+
+}
@@ -0,0 +1,152 @@
+package io.github.nadjannn.excel.handling;
+
+import io.github.nadjannn.excel.handling.xssf.CompactSharedStringsTable;
+import io.github.nadjannn.excel.handling.xssf.XSSFStreamingReader;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class XSSFStreamingReaderTest extends ExcelStreamingReaderTest {
+
+    @Before
+    public void init() {
+        fileName = getClass().getClassLoader().getResource("xssfFormat.xlsx").getFile();
+        reader = ExcelFileFactory.openStreamingReader(fileName);
+    }
+
+    @Test
+    public void sheetsShouldBeReadConcurrently() throws Exception {
+        List<List<String>> texts = new ArrayList<>();
+        texts.add(new ArrayList<>());
+        texts.add(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<Integer>> futures = ((XSSFStreamingReader) reader)
+                    .readSheets(executor, sheet -> row -> texts.get(sheet).add(row.getCellValueString(0)));
+            assertEquals(4, futures.get(0).get().intValue());
+            assertEquals(2, futures.get(1).get().intValue());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("[10, text1, , 20]", texts.get(0).toString());
+        assertEquals("[20, text2]", texts.get(1).toString());
+    }
+
+    @Test
+    public void compactSharedStringsShouldSkipPhoneticRuns() {
+        String xml = "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"4\" uniqueCount=\"3\">"
+                + "<si><t>plain</t></si>"
+                + "<si><r><t>rich </t></r><r><t>text \u00e9\u4e2d</t></r><rPh sb=\"0\" eb=\"1\"><t>skip</t></rPh></si>"
+                + "<si><t>line_x000D_break</t></si>"
+                + "</sst>";
+        CompactSharedStringsTable table = new CompactSharedStringsTable(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(3, table.getUniqueCount());
+        assertEquals(4, table.getCount());
+        assertEquals("plain", table.getString(0));
+        assertEquals("rich text \u00e9\u4e2d", table.getItemAt(1).getString());
+        assertEquals("line\rbreak", table.getString(2));
+    }
+
+    @Test
+    public void sharedStringsShouldBeDecodedOnRequest() {
+        AtomicInteger decoded = new AtomicInteger();
+        RowValues row = new RowValues();
+        row.setSharedStrings(index -> {
+            decoded.incrementAndGet();
+            return "string" + index;
+        });
+        row.setValue(0, 1D);
+        row.setSharedString(2, 7);
+        assertEquals(3, row.size());
+        assertFalse(row.getCellValueDouble(2).isPresent());
+        RowValues copy = row.copy();
+        assertEquals(0, decoded.get());
+        assertEquals("string7", row.getCellValueString(2));
+        assertEquals("string7", row.getValue(2));
+        assertEquals(1, decoded.get());
+        assertEquals("[1.0, null, string7]", Arrays.toString(copy.toArray()));
+        assertEquals(2, decoded.get());
+    }
+
+    @Test
+    public void datesShouldBeReadWith1904DateSystem() throws Exception {
+        File file = File.createTempFile("date1904", ".xlsx");
+        try {
+            try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream stream = new FileOutputStream(file)) {
+                workbook.getCTWorkbook().getWorkbookPr().setDate1904(true);
+                workbook.createSheet().createRow(0).createCell(0).setCellValue(1D);
+                workbook.write(stream);
+            }
+            try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(file.getPath(), HandlingType.READ)) {
+                assertTrue(excelFile.isDate1904());
+                assertEquals(LocalDate.of(1904, 1, 2), excelFile.getCellValueLocalDate(0, 0).get());
+            }
+            List<LocalDate> dates = new ArrayList<>();
+            try (ExcelStreamingReader streamingReader = ExcelFileFactory.openStreamingReader(file.getPath())) {
+                streamingReader.readRows(row -> dates.add(row.getCellValueLocalDate(0).get()));
+            }
+            assertEquals(Collections.singletonList(LocalDate.of(1904, 1, 2)), dates);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void malformedRowNumberShouldThrowException() throws Exception {
+        File file = File.createTempFile("malformed", ".xlsx");
+        File malformedFile = File.createTempFile("malformed", ".xlsx");
+        try {
+            try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream stream = new FileOutputStream(file)) {
+                workbook.createSheet().createRow(0).createCell(0).setCellValue(1D);
+                workbook.write(stream);
+            }
+            try (ZipFile zipFile = new ZipFile(file);
+                 ZipOutputStream stream = new ZipOutputStream(new FileOutputStream(malformedFile))) {
+                for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                    byte[] content;
+                    try (InputStream entryStream = zipFile.getInputStream(entry)) {
+                        content = IOUtils.toByteArray(entryStream);
+                    }
+                    if (entry.getName().startsWith("xl/worksheets/")) {
+                        content = new String(content, StandardCharsets.UTF_8).replace("<row r=\"1\"", "<row r=\"x\"")
+                                .getBytes(StandardCharsets.UTF_8);
+                    }
+                    stream.putNextEntry(new ZipEntry(entry.getName()));
+                    stream.write(content);
+                    stream.closeEntry();
+                }
+            }
+            try (ExcelStreamingReader streamingReader = ExcelFileFactory.openStreamingReader(malformedFile.getPath())) {
+                streamingReader.readRows(row -> { });
+            }
+        } finally {
+            file.delete();
+            malformedFile.delete();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExcelExporterTest {
+
+    private static final String[] FILE_NAMES = {"export.xls", "export.xlsx"};
+
+    @After
+    public void removeFiles() {
+        for (String fileName : FILE_NAMES) {
+            new File(fileName).delete();
+        }
+    }
+
+    @Test
+    public void sheetShouldBeExportedIntoCsv() throws Exception {
+        for (String fileName : FILE_NAMES) {
+            createFile(fileName);
+            assertEquals("name,amount,flag,date,time\n"
+                            + "\"a,b\",1.5,true,2024-02-29,2024-03-01T10:30:00\n"
+                            + "\"say \"\"hi\"\"\",2,false\n",
+                    export(fileName, ExportOptions.csv()));
+        }
+    }
+
+    @Test
+    public void sheetShouldBeExportedIntoTsvWithQuotingOptions() throws Exception {
+        for (String fileName : FILE_NAMES) {
+            createFile(fileName);
+            ExportOptions options = ExportOptions.tsv().withQuoting(Quoting.NONE).withDates(false).withLineSeparator("\r\n");
+            assertEquals("name\tamount\tflag\tdate\ttime\r\n"
+                            + "a,b\t1.5\ttrue\t45351\t45352.4375\r\n"
+                            + "say \"hi\"\t2\tfalse\r\n",
+                    export(fileName, options));
+            assertEquals("'name';'amount';'flag';'date';'time'\n",
+                    export(fileName, ExportOptions.csv().withDelimiter(';').withQuote('\'').withQuoting(Quoting.ALL)).split("(?<=\n)")[0]);
+        }
+    }
+
+    @Test
+    public void numbersAndDatesShouldBeFormatted() throws Exception {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+        try {
+            for (String fileName : FILE_NAMES) {
+                createFile(fileName);
+                ExportOptions options = ExportOptions.csv().withFormattedNumbers(true)
+                        .withDateFormatter(DateTimeFormatter.ofPattern("dd.MM.yyyy"));
+                assertEquals("\"a,b\",\"1,5\",true,29.02.2024,01.03.2024", export(fileName, options).split("\n")[1]);
+            }
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+        }
+    }
+
+    @Test
+    public void sheetShouldBeExportedIntoJsonLines() throws Exception {
+        for (String fileName : FILE_NAMES) {
+            createFile(fileName);
+            assertEquals("[\"name\",\"amount\",\"flag\",\"date\",\"time\"]\n"
+                            + "[\"a,b\",1.5,true,\"2024-02-29\",\"2024-03-01T10:30:00\"]\n"
+                            + "[\"say \\\"hi\\\"\",2,false]\n",
+                    export(fileName, ExportOptions.jsonLines()));
+            assertEquals("{\"name\":\"a,b\",\"amount\":1.5,\"flag\":true,\"date\":\"2024-02-29\",\"time\":\"2024-03-01T10:30:00\"}\n"
+                            + "{\"name\":\"say \\\"hi\\\"\",\"amount\":2,\"flag\":false}\n",
+                    export(fileName, ExportOptions.jsonLines().withHeader(true)));
+        }
+    }
+
+    @Test
+    public void selectedSheetsShouldBeExportedIntoStream() throws Exception {
+        for (String fileName : FILE_NAMES) {
+            createFile(fileName);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            long rowsAmount = new ExcelExporter(ExportOptions.csv().withSheets(1, 0)).export(fileName, output);
+            assertEquals(5, rowsAmount);
+            String text = new String(output.toByteArray(), StandardCharsets.UTF_8);
+            assertEquals("тест,3\n,4\nname,amount,flag,date,time\n", text.substring(0, text.indexOf("\"a,b\"")));
+        }
+    }
+
+    private String export(String fileName, ExportOptions options) throws Exception {
+        StringWriter writer = new StringWriter();
+        new ExcelExporter(options).export(fileName, writer);
+        return writer.toString();
+    }
+
+    private void createFile(String fileName) throws Exception {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(fileName, HandlingType.WRITE)) {
+            excelFile.writeRow(0, "name", "amount", "flag", "date", "time");
+            excelFile.writeRow(1, "a,b", 1.5D, true, LocalDate.of(2024, 2, 29), LocalDateTime.of(2024, 3, 1, 10, 30));
+            excelFile.writeRow(2, "say \"hi\"", 2, false);
+            excelFile.addAndLoadSheet();
+            excelFile.writeRow(0, "тест", 3);
+            excelFile.writeRow(1, "", 4);
+        }
+    }
+
+}
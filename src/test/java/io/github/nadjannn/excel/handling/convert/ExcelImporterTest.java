@@ -0,0 +1,146 @@
+package io.github.nadjannn.excel.handling.convert;
+
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ExcelImporterTest {
+
+    private static final String FILE_NAME = "import.xlsx";
+
+    private static final String CSV = "id,name,price,active,date,time,code\n"
+            + "1,\"Smith, John\",10.5,true,2024-02-29,2024-03-01T10:30:00,007\n"
+            + "\n"
+            + "2,\"multi\nline \"\"quoted\"\"\",-2e3,FALSE,,2024-03-02T00:00:00,010\r\n"
+            + "3,plain,,true,2024-03-03,,011\n";
+
+    @After
+    public void removeFile() {
+        new File(FILE_NAME).delete();
+    }
+
+    @Test
+    public void typesShouldBeInferredFromSample() throws Exception {
+        long rowsAmount = new ExcelImporter(ImportOptions.csv().withHeader(true))
+                .importCsv(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)), FILE_NAME);
+        assertEquals(3, rowsAmount);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            assertEquals("price", excelFile.getCellValueString(0, 2));
+            assertEquals(1D, excelFile.getCellValueDouble(1, 0).get(), 0D);
+            assertEquals("Smith, John", excelFile.getCellValueString(1, 1));
+            assertEquals(10.5D, excelFile.getCellValueDouble(1, 2).get(), 0D);
+            assertTrue(excelFile.getCellValueBoolean(1, 3).get());
+            assertEquals(LocalDate.of(2024, 2, 29), excelFile.getCellValueLocalDate(1, 4).get());
+            assertEquals(LocalDateTime.of(2024, 3, 1, 10, 30), excelFile.getCellValueLocalDateTime(1, 5).get());
+            assertEquals("007", excelFile.getCellValueString(1, 6));
+            assertEquals("multi\nline \"quoted\"", excelFile.getCellValueString(2, 1));
+            assertEquals(-2000D, excelFile.getCellValueDouble(2, 2).get(), 0D);
+            assertFalse(excelFile.getCellValueBoolean(2, 3).get());
+            assertFalse(excelFile.getCellValue(3, 2).isPresent());
+            assertEquals(3, excelFile.getLastRowNum());
+        }
+    }
+
+    @Test
+    public void fileShouldNotBeCreatedWhenTextIsMalformed() {
+        ExcelHandlingException exception = assertThrows(ExcelHandlingException.class, () ->
+                new ExcelImporter(ImportOptions.csv()).importCsv(new StringReader("1\n2\n\"3\n4\n"), FILE_NAME));
+        assertTrue(exception.getMessage(), exception.getMessage().contains("line 3"));
+        assertFalse(new File(FILE_NAME).exists());
+        File[] tempFiles = new File(FILE_NAME).getAbsoluteFile().getParentFile().listFiles((dir, name) -> name.startsWith("." + FILE_NAME));
+        assertEquals(0, tempFiles.length);
+    }
+
+    @Test
+    public void existingFileShouldBeKeptWhenTextIsMalformed() throws Exception {
+        new ExcelImporter(ImportOptions.csv()).importCsv(new StringReader("first\n"), FILE_NAME);
+        byte[] content = Files.readAllBytes(Paths.get(FILE_NAME));
+        assertThrows(ExcelHandlingException.class, () ->
+                new ExcelImporter(ImportOptions.csv()).importCsv(new StringReader("second\n\"third\n"), FILE_NAME));
+        assertArrayEquals(content, Files.readAllBytes(Paths.get(FILE_NAME)));
+    }
+
+    @Test
+    public void explicitTypesShouldBeUsedAndWrongValuesWrittenAsText() throws Exception {
+        String text = "1\t2024-01-01\tx\n"
+                + "a\t2024-01-02\t5\n";
+        new ExcelImporter(ImportOptions.tsv().withColumnTypes(ColumnType.NUMBER, ColumnType.STRING, ColumnType.NUMBER))
+                .importCsv(new StringReader(text), FILE_NAME);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            assertEquals(1D, excelFile.getCellValueDouble(0, 0).get(), 0D);
+            assertEquals("a", excelFile.getCellValueString(1, 0));
+            assertEquals("2024-01-01", excelFile.getCellValueString(0, 1));
+            assertEquals("x", excelFile.getCellValueString(0, 2));
+            assertEquals(5D, excelFile.getCellValueDouble(1, 2).get(), 0D);
+        }
+    }
+
+    @Test
+    public void rowsShouldBeRolledOverToNewSheetsWithHeader() throws Exception {
+        StringBuilder text = new StringBuilder("value\n");
+        for (int i = 0; i < 10; i++) {
+            text.append(i).append('\n');
+        }
+        long rowsAmount = new ExcelImporter(ImportOptions.csv().withHeader(true).withRowsPerSheet(4).withSampleSize(3))
+                .importCsv(new StringReader(text.toString()), FILE_NAME);
+        assertEquals(10, rowsAmount);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            assertEquals(4, excelFile.getSheetsAmount());
+            excelFile.loadSheet(2);
+            assertEquals("value", excelFile.getCellValueString(0, 0));
+            assertEquals(6D, excelFile.getCellValueDouble(1, 0).get(), 0D);
+            excelFile.loadSheet(3);
+            assertEquals(1, excelFile.getLastRowNum());
+            assertEquals(9D, excelFile.getCellValueDouble(1, 0).get(), 0D);
+        }
+    }
+
+    @Test
+    public void longIdentifiersAndOutOfRangeNumbersShouldBeKeptAsText() throws Exception {
+        String text = "id,value\n"
+                + "12345678901234567890,1e400\n"
+                + "4111111111111111,2\n";
+        new ExcelImporter(ImportOptions.csv().withHeader(true)).importCsv(new StringReader(text), FILE_NAME);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            assertEquals("12345678901234567890", excelFile.<String>getCellValue(1, 0).get());
+            assertEquals("4111111111111111", excelFile.<String>getCellValue(2, 0).get());
+            assertEquals("1e400", excelFile.<String>getCellValue(1, 1).get());
+            assertEquals("2", excelFile.<String>getCellValue(2, 1).get());
+        }
+        new ExcelImporter(ImportOptions.csv().withColumnTypes(ColumnType.NUMBER)).importCsv(new StringReader("1e400\n"), FILE_NAME);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            assertEquals("1e400", excelFile.<String>getCellValue(0, 0).get());
+        }
+    }
+
+    @Test
+    public void numbersShouldBeRecognised() {
+        for (String number : new String[] {"0", "-1", "+2.5", ".5", "1.", "1e10", "1.5E-3", "0.25", "123456789012345",
+                "0.000123456789012345", "1e308", "0e-400"}) {
+            assertTrue(number, ExcelImporter.isNumber(number));
+        }
+        for (String text : new String[] {"-", ".", "1e", "007", "1,5", "0x10", "NaN", "1d", " 1", "1e5x",
+                "12345678901234567890", "1234567890123456", "1.234567890123456", "1e400", "-1e400", "1e-400"}) {
+            assertFalse(text, ExcelImporter.isNumber(text));
+        }
+    }
+
+}
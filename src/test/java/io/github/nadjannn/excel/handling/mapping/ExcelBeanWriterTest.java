@@ -0,0 +1,115 @@
+package io.github.nadjannn.excel.handling.mapping;
+
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExcelBeanWriterTest {
+
+    private static final String FILE_NAME = "beans.xls";
+
+    @After
+    public void removeFile() {
+        new File(FILE_NAME).delete();
+    }
+
+    @Test
+    public void beansShouldBeWrittenWithHeaderAndFormats() throws Exception {
+        Date date = new Date();
+        List<ReportBean> beans = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            beans.add(new ReportBean(i, "text" + i, date, i % 2 == 0 ? "yes" : "no", i * 1.5));
+        }
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.WRITE)) {
+            int stylesAmount = excelFile.getWorkbook().getNumCellStyles();
+            assertEquals(1000, excelFile.writeBeans(ReportBean.class, beans));
+            // Header style, date style and number style.
+            assertEquals(stylesAmount + 3, excelFile.getWorkbook().getNumCellStyles());
+        }
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            assertEquals("ID", excelFile.getCellValueString(0, 0));
+            assertEquals("text", excelFile.getCellValueString(0, 1));
+            assertEquals("Date", excelFile.getCellValueString(0, 2));
+            assertEquals("Answer", excelFile.getCellValueString(0, 3));
+            assertEquals("amount", excelFile.getCellValueString(0, 5));
+            assertEquals("999", excelFile.getCellValueString(1000, 0));
+            assertEquals("text999", excelFile.getCellValueString(1000, 1));
+            assertEquals(date, excelFile.getCellValueDate(1000, 2).get());
+            assertEquals("yyyy-mm-dd", excelFile.getExcelRow(1).get().getCell(2).getCellStyle().getDataFormatString());
+            assertEquals("0.00", excelFile.getExcelRow(1).get().getCell(5).getCellStyle().getDataFormatString());
+            List<? extends DataValidation> validations = excelFile.getCurrentSheet().getDataValidations();
+            assertEquals(1, validations.size());
+            assertEquals(1000, validations.get(0).getRegions().getCellRangeAddress(0).getNumberOfCells());
+        }
+    }
+
+    @Test
+    public void beansShouldBeReadBackWithMapper() throws Exception {
+        List<ReportBean> beans = new ArrayList<>();
+        beans.add(new ReportBean(7, "seven", new Date(), "yes", 7.5));
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.WRITE)) {
+            excelFile.writeBeans(ReportBean.class, beans);
+        }
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            ReportBean bean = ExcelRowMapper.forClass(ReportBean.class).readAll(excelFile).get(0);
+            assertEquals(7, bean.id);
+            assertEquals("seven", bean.text);
+            assertEquals(0, Double.compare(7.5D, bean.amount));
+        }
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void duplicateColumnIndexesShouldBeRejected() {
+        ExcelBeanWriter.forClass(DuplicateIndexBean.class);
+    }
+
+    static class ReportBean {
+
+        @ExcelColumn(header = "ID")
+        private int id;
+
+        @ExcelColumn(header = "text")
+        private String text;
+
+        @ExcelColumn(header = "Date")
+        private Date date;
+
+        @ExcelColumn(header = "Answer", options = {"yes", "no"})
+        private String answer;
+
+        @ExcelColumn(index = 5, header = "amount", format = "0.00")
+        private double amount;
+
+        ReportBean() {
+        }
+
+        ReportBean(int id, String text, Date date, String answer, double amount) {
+            this.id = id;
+            this.text = text;
+            this.date = date;
+            this.answer = answer;
+            this.amount = amount;
+        }
+    }
+
+    static class DuplicateIndexBean {
+
+        @ExcelColumn(index = 1)
+        private String first;
+
+        @ExcelColumn(index = 1)
+        private String second;
+    }
+
+}
@@ -0,0 +1,195 @@
+package io.github.nadjannn.excel.handling.mapping;
+
+import io.github.nadjannn.excel.handling.ExcelFile;
+import io.github.nadjannn.excel.handling.ExcelFileFactory;
+import io.github.nadjannn.excel.handling.ExcelHandlingException;
+import io.github.nadjannn.excel.handling.HandlingType;
+import org.apache.poi.util.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ExcelRowMapperTest {
+
+    private static final String FILE_NAME = "mapping.xlsx";
+
+    private final Date date = new Date();
+
+    @Before
+    public void writeFile() throws Exception {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.WRITE)) {
+            excelFile.writeRow(0, "ID", "Text", "Date", "Amount", "Active");
+            excelFile.writeRow(1, 1, "first", date, 10.5, true);
+            excelFile.writeRow(2, 2, "second", null, 12, false);
+        }
+    }
+
+    @After
+    public void removeFile() {
+        new File(FILE_NAME).delete();
+    }
+
+    @Test
+    public void rowsShouldBeMappedByHeader() throws Exception {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            List<HeaderBean> beans = ExcelRowMapper.forClass(HeaderBean.class).readAll(excelFile);
+            assertEquals(2, beans.size());
+            assertEquals(1, beans.get(0).getId());
+            assertEquals("first", beans.get(0).getText());
+            assertEquals(date, beans.get(0).getDate());
+            assertEquals(Boolean.TRUE, beans.get(0).getActive());
+            assertEquals("second", beans.get(1).getText());
+            assertNull(beans.get(1).getDate());
+        }
+    }
+
+    @Test
+    public void rowsShouldBeMappedByIndex() throws Exception {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            List<IndexBean> beans = ExcelRowMapper.forClass(IndexBean.class).stream(excelFile, 1)
+                    .collect(Collectors.toList());
+            assertEquals(2, beans.size());
+            assertEquals(2L, beans.get(1).id);
+            assertEquals(0, Double.compare(12D, beans.get(1).amount));
+        }
+    }
+
+    @Test
+    public void mapperShouldBeCreatedOncePerClass() {
+        assertSame(ExcelRowMapper.forClass(IndexBean.class), ExcelRowMapper.forClass(IndexBean.class));
+    }
+
+    @Test(expected = ExcelHandlingException.class)
+    public void missingHeaderShouldThrowException() throws Exception {
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            ExcelRowMapper.forClass(MissingHeaderBean.class).readAll(excelFile);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void beansOfChildClassLoaderShouldBeMappedAndWritten() throws Exception {
+        Class<?> type = new ChildFirstClassLoader(ExcelRowMapperTest.class).loadClass(HeaderBean.class.getName());
+        assertNotSame(HeaderBean.class, type);
+        try (ExcelFile excelFile = ExcelFileFactory.openExcelFile(FILE_NAME, HandlingType.READ)) {
+            List<?> beans = ExcelRowMapper.forClass(type).readAll(excelFile);
+            assertEquals(2, beans.size());
+            assertSame(type, beans.get(0).getClass());
+            assertEquals("first", type.getMethod("getText").invoke(beans.get(0)));
+            Object[] values = readValues((ExcelBeanWriter<Object>) ExcelBeanWriter.forClass(type), beans.get(1));
+            assertEquals(2, values[0]);
+            assertEquals("second", values[1]);
+        }
+    }
+
+    private static Object[] readValues(ExcelBeanWriter<Object> writer, Object bean) {
+        return writer.readValues(bean, new Object[writer.getColumnsAmount()]);
+    }
+
+    /**
+     * Loads particular class with its nested classes itself like web application loader does, other classes are loaded by parent.
+     */
+    private static class ChildFirstClassLoader extends ClassLoader {
+
+        private final Class<?> type;
+
+        ChildFirstClassLoader(Class<?> type) {
+            super(type.getClassLoader());
+            this.type = type;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(type.getName()) && !name.startsWith(type.getName() + "$")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = IOUtils.toByteArray(stream);
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+
+    public static class HeaderBean {
+
+        @ExcelColumn(header = "ID")
+        private int id;
+
+        @ExcelColumn(header = "Text")
+        private String text;
+
+        @ExcelColumn(header = "Date")
+        private Date date;
+
+        @ExcelColumn(index = 4)
+        private Boolean active;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        public Date getDate() {
+            return date;
+        }
+
+        public void setDate(Date date) {
+            this.date = date;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+    }
+
+    static class IndexBean {
+
+        @ExcelColumn(index = 0)
+        private long id;
+
+        @ExcelColumn(index = 3)
+        private double amount;
+    }
+
+    static class MissingHeaderBean {
+
+        @ExcelColumn(header = "Unknown")
+        private String value;
+    }
+
+}